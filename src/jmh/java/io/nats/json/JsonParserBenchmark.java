@@ -0,0 +1,206 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for JsonParser over JetStream style responses.
+ * Run with {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParserBenchmark {
+
+    static final JsonProjection PROJECTION = JsonProjection.of("state.messages", "state.last_seq", "config.name");
+
+    static final JsonPointer POINTER = JsonPointer.of("/state/messages");
+
+    String json;
+    char[] chars;
+    byte[] bytes;
+
+    // the same document where every key with an underscore has an escape,
+    // so its strings take the character by character path instead of the bulk one
+    String escapedJson;
+    byte[] escapedBytes;
+
+    // an object store style listing, many objects with long string values
+    byte[] listingBytes;
+
+    // array heavy, consumer subject filters, placement tags and a kv history
+    byte[] arraysBytes;
+    List<JsonValue> subjects;
+
+    @Setup
+    public void setup() throws IOException {
+        json = resourceAsString("stream-info.json");
+        chars = json.toCharArray();
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+        escapedJson = json.replace("_", "\\u005f");
+        escapedBytes = escapedJson.getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder listing = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            listing.append(i == 0 ? "" : ",")
+                .append("{\"name\":\"objects/2026/reports/quarterly/region-").append(i).append("/summary-final.parquet\",")
+                .append("\"bucket\":\"analytics-archive-bucket\",\"nuid\":\"Kp2wXDxLJ3bU0hVpF4SdY7mQ8rT1nZc").append(i).append("\",")
+                .append("\"size\":").append(1_048_576L * i).append(",\"chunks\":").append(i % 64).append(",")
+                .append("\"digest\":\"SHA-256=2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824\"}");
+        }
+        listingBytes = listing.append("]").toString().getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder arrays = new StringBuilder("{\"filter_subjects\":[");
+        subjects = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String subject = "orders.region-" + (i % 12) + ".store-" + i + ".>";
+            subjects.add(new JsonValue(subject));
+            arrays.append(i == 0 ? "" : ",").append('"').append(subject).append('"');
+        }
+        arrays.append("],\"placement\":{\"cluster\":\"east\",\"tags\":[\"ssd\",\"az-1\",\"az-2\",\"rack-7\"]},\"history\":[");
+        for (int i = 0; i < 100; i++) {
+            arrays.append(i == 0 ? "" : ",")
+                .append("{\"key\":\"config.").append(i % 5).append("\",\"revision\":").append(i + 1)
+                .append(",\"ops\":[\"PUT\"],\"tags\":[").append(i % 7).append(',').append(i % 3).append("]}");
+        }
+        arraysBytes = arrays.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonValue parseString() throws JsonParseException {
+        return JsonParser.parse(json);
+    }
+
+    @Benchmark
+    public JsonValue parseChars() throws JsonParseException {
+        return JsonParser.parse(chars);
+    }
+
+    @Benchmark
+    public JsonValue parseBytes() throws JsonParseException {
+        return JsonParser.parse(bytes);
+    }
+
+    @Benchmark
+    public JsonValue parseBytesCachingKeys() throws JsonParseException {
+        return JsonParser.parse(bytes, JsonParser.Option.CACHE_KEYS);
+    }
+
+    @Benchmark
+    public JsonValue parseBytesProjected() throws JsonParseException {
+        return JsonParser.parse(bytes, PROJECTION);
+    }
+
+    @Benchmark
+    public JsonValue extractPointer() throws JsonParseException {
+        return POINTER.extract(bytes);
+    }
+
+    @Benchmark
+    public long parseBytesLazyReadOne() throws JsonParseException {
+        JsonValue v = JsonParser.parse(bytes, JsonParser.Option.LAZY);
+        return JsonValueUtils.readLong(JsonValueUtils.readValue(v, "state"), "messages", 0);
+    }
+
+    @Benchmark
+    public long parseBytesReadOne() throws JsonParseException {
+        JsonValue v = JsonParser.parse(bytes);
+        return JsonValueUtils.readLong(JsonValueUtils.readValue(v, "state"), "messages", 0);
+    }
+
+    @Benchmark
+    public int handleBytes() throws JsonParseException {
+        int[] count = new int[1];
+        new JsonParser(bytes, JsonParser.Option.STRING_VIEWS).parse(new JsonHandler() {
+            @Override
+            public void key(CharSequence key) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public void validateBytes() throws JsonParseException {
+        JsonParser.validate(bytes);
+    }
+
+    @Benchmark
+    public JsonValue parseListingBytes() throws JsonParseException {
+        return JsonParser.parse(listingBytes);
+    }
+
+    @Benchmark
+    public JsonValue parseListingBytesParallel() throws JsonParseException {
+        return JsonParser.parse(listingBytes, JsonParser.Option.PARALLEL);
+    }
+
+    @Benchmark
+    public JsonValue parseArraysBytes() throws JsonParseException {
+        return JsonParser.parse(arraysBytes);
+    }
+
+    @Benchmark
+    public JsonValue copyArray() {
+        return new JsonValue(new ArrayList<>(subjects));
+    }
+
+    @Benchmark
+    public JsonValue adoptArray() {
+        return JsonValue.adoptArray(new ArrayList<>(subjects));
+    }
+
+    @Benchmark
+    public JsonValue instanceArray() {
+        return JsonValue.instance(subjects);
+    }
+
+    @Benchmark
+    public JsonValue parseEscapedString() throws JsonParseException {
+        return JsonParser.parse(escapedJson);
+    }
+
+    @Benchmark
+    public JsonValue parseEscapedBytes() throws JsonParseException {
+        return JsonParser.parse(escapedBytes);
+    }
+
+    static String resourceAsString(String name) throws IOException {
+        try (InputStream in = JsonParserBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("Resource not found: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
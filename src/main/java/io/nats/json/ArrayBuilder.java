@@ -35,7 +35,7 @@ public class ArrayBuilder implements JsonSerializable {
      * Get a new instance of ArrayBuilder
      */
     public ArrayBuilder() {
-        jv = new JsonValue(new ArrayList<>());
+        jv = JsonValue.adoptArray(new ArrayList<>());
     }
 
     /**
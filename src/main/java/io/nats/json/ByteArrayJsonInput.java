@@ -0,0 +1,81 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JsonInput backed by a byte array of UTF-8 encoded JSON
+ */
+class ByteArrayJsonInput extends Utf8JsonInput {
+    private final byte[] json;
+    private ByteBuffer words;
+
+    ByteArrayJsonInput(byte[] json, int startIndex) {
+        this(json, startIndex, json.length);
+    }
+
+    ByteArrayJsonInput(byte[] json, int startIndex, int end) {
+        super(startIndex, end);
+        this.json = json;
+    }
+
+    @Override
+    final byte byteAt(int index) {
+        return json[index];
+    }
+
+    @Override
+    final ByteBuffer words() {
+        if (words == null) {
+            words = ByteBuffer.wrap(json);
+        }
+        return words;
+    }
+
+    // the same as the base scan, with the bytes read straight from the array
+    @Override
+    final int scanPlainAscii(int from, int to) {
+        int i = from;
+        if (to - from >= SWAR_MIN_LENGTH && SWAR) {
+            ByteBuffer w = words();
+            for (int last = to - 8; i <= last; i += 8) {
+                if (hasSpecialByte(w.getLong(i))) {
+                    break;
+                }
+            }
+        }
+        for (; i < to; i++) {
+            byte b = json[i];
+            if (b < ' ' || b == '"' || b == '\\') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    Utf8JsonInput duplicate(int end) {
+        return new ByteArrayJsonInput(json, 0, end);
+    }
+
+    @Override
+    final String asciiString(int from, int to, @Nullable JsonStringCache cache) {
+        return cache == null ? new String(json, from, to - from, StandardCharsets.ISO_8859_1) : cache.getAscii(json, from, to);
+    }
+}
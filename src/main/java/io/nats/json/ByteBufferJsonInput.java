@@ -0,0 +1,49 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import java.nio.ByteBuffer;
+
+/**
+ * JsonInput backed by a ByteBuffer of UTF-8 encoded JSON, typically a direct buffer.
+ * Only absolute gets are used, so the buffer's position is never touched while reading.
+ */
+final class ByteBufferJsonInput extends Utf8JsonInput {
+    private final ByteBuffer json;
+
+    ByteBufferJsonInput(ByteBuffer json) {
+        this(json, json.position(), json.limit());
+    }
+
+    private ByteBufferJsonInput(ByteBuffer json, int startIndex, int end) {
+        super(startIndex, end);
+        this.json = json;
+    }
+
+    @Override
+    byte byteAt(int index) {
+        return json.get(index);
+    }
+
+    @Override
+    ByteBuffer words() {
+        return json;
+    }
+
+    @Override
+    Utf8JsonInput duplicate(int end) {
+        return new ByteBufferJsonInput(json, 0, end);
+    }
+}
@@ -0,0 +1,114 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JsonInput backed by a char array
+ */
+class CharArrayJsonInput extends JsonInput {
+    private final char[] json;
+    private int len;
+    private int idx;
+    private long base;
+
+    CharArrayJsonInput(char[] json, int startIndex) {
+        this(json, startIndex, json.length);
+    }
+
+    CharArrayJsonInput(char[] json, int startIndex, int len) {
+        this.json = json;
+        this.len = len;
+        idx = startIndex;
+    }
+
+    @Override
+    final char peekToken() throws JsonParseException {
+        while (idx < len || refill()) {
+            char c = json[idx];
+            if (!isWhitespace(c)) {
+                return c;
+            }
+            idx++;
+        }
+        return 0;
+    }
+
+    @Override
+    final char nextToken() throws JsonParseException {
+        char c = peekToken();
+        if (idx < len) {
+            idx++;
+        }
+        return c;
+    }
+
+    @Override
+    final char nextChar() throws JsonParseException {
+        return idx < len || refill() ? json[idx++] : 0;
+    }
+
+    @Override
+    final String nextUnescapedString(StringBuilder sb, @Nullable JsonStringCache cache) {
+        int start = idx;
+        for (int i = start; i < len; i++) {
+            char c = json[i];
+            if (c == '"') {
+                idx = i + 1;
+                return cache == null ? new String(json, start, i - start) : cache.get(json, start, i);
+            }
+            if (c == '\\' || c == '\n' || c == '\r' || c == 0) {
+                sb.append(json, start, i - start);
+                idx = i;
+                return null;
+            }
+        }
+        sb.append(json, start, len - start);
+        idx = len;
+        return null;
+    }
+
+    @Override
+    JsonInput duplicate() {
+        return new CharArrayJsonInput(json, 0, len);
+    }
+
+    @Override
+    final void seek(int index) {
+        idx = index;
+    }
+
+    @Override
+    final long index() {
+        return base + idx;
+    }
+
+    @Override
+    final int remaining() {
+        return len - idx;
+    }
+
+    private boolean refill() throws JsonParseException {
+        int n = fill();
+        if (n <= 0) {
+            return false;
+        }
+        base += len;
+        idx = 0;
+        len = n;
+        return true;
+    }
+}
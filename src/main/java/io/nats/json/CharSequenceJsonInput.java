@@ -0,0 +1,99 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JsonInput that reads directly from a CharSequence, usually a String, without copying it.
+ * For a String on a runtime with compact strings, each read of a Latin-1 string is a single byte load.
+ */
+final class CharSequenceJsonInput extends JsonInput {
+    private final CharSequence json;
+    private final int len;
+    private int idx;
+
+    CharSequenceJsonInput(CharSequence json, int startIndex) {
+        this.json = json;
+        len = json.length();
+        idx = startIndex;
+    }
+
+    @Override
+    char peekToken() {
+        while (idx < len) {
+            char c = json.charAt(idx);
+            if (!isWhitespace(c)) {
+                return c;
+            }
+            idx++;
+        }
+        return 0;
+    }
+
+    @Override
+    char nextToken() {
+        char c = peekToken();
+        if (idx < len) {
+            idx++;
+        }
+        return c;
+    }
+
+    @Override
+    char nextChar() {
+        return idx < len ? json.charAt(idx++) : 0;
+    }
+
+    @Override
+    String nextUnescapedString(StringBuilder sb, @Nullable JsonStringCache cache) {
+        int start = idx;
+        for (int i = start; i < len; i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                idx = i + 1;
+                return cache == null ? json.subSequence(start, i).toString() : cache.get(json, start, i);
+            }
+            if (c == '\\' || c == '\n' || c == '\r' || c == 0) {
+                sb.append(json, start, i);
+                idx = i;
+                return null;
+            }
+        }
+        sb.append(json, start, len);
+        idx = len;
+        return null;
+    }
+
+    @Override
+    JsonInput duplicate() {
+        return new CharSequenceJsonInput(json, 0);
+    }
+
+    @Override
+    void seek(int index) {
+        idx = index;
+    }
+
+    @Override
+    long index() {
+        return idx;
+    }
+
+    @Override
+    int remaining() {
+        return len - idx;
+    }
+}
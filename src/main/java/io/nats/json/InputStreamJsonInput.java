@@ -0,0 +1,54 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * JsonInput that reads UTF-8 encoded JSON from an InputStream through a fixed size buffer.
+ * An IOException from the stream is thrown as an UncheckedIOException
+ * so it can pass through the parser, the caller is expected to unwrap it.
+ */
+final class InputStreamJsonInput extends ByteArrayJsonInput {
+    private final InputStream in;
+    private final byte[] buffer;
+
+    InputStreamJsonInput(InputStream in, byte[] buffer) {
+        super(buffer, 0, 0);
+        this.in = in;
+        this.buffer = buffer;
+    }
+
+    @Override
+    Utf8JsonInput duplicate(int end) {
+        return null;
+    }
+
+    @Override
+    int fill() {
+        try {
+            int n;
+            do {
+                n = in.read(buffer, 0, buffer.length);
+            } while (n == 0);
+            return n;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses the elements of a large array in parallel.
+ * <p>A pre-scan skips over each element without building it and records where it starts.
+ * The elements are then split into ranges of about the same length of input, each range is parsed
+ * by its own parser over the same data, and the values are put in place in one list, so they are in order.
+ */
+final class JsonArrayTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    static final int MIN_PARALLEL_LENGTH = 64 * 1024;   // shorter arrays are parsed sequentially
+    static final int MIN_CHUNK_LENGTH = 16 * 1024;      // ranges are not split below this
+
+    private final JsonParser template;
+    private final int[] starts;
+    private final List<JsonValue> values;
+    private final int from;
+    private final int to;
+    private final int chunkLength;
+
+    private JsonArrayTask(JsonParser template, int[] starts, List<JsonValue> values, int from, int to, int chunkLength) {
+        this.template = template;
+        this.starts = starts;
+        this.values = values;
+        this.from = from;
+        this.to = to;
+        this.chunkLength = chunkLength;
+    }
+
+    /**
+     * Parse an array, in parallel if it is long enough
+     * @param parser the parser, after the opening [ of the array
+     * @param template a parser over the same data, used to create a parser for each range
+     * @param pool the pool to parse on
+     * @return the elements of the array
+     * @throws JsonParseException if there is a problem parsing
+     */
+    static List<JsonValue> parse(JsonParser parser, JsonParser template, ForkJoinPool pool) throws JsonParseException {
+        // an array that cannot be long enough is not worth a pre-scan
+        if (parser.remaining() < MIN_PARALLEL_LENGTH) {
+            return parser.nextContainer('[').array;
+        }
+
+        int begin = parser.index();
+        int[] starts = new int[64];
+        int count = 0;
+        char p = parser.peekToken();
+        while (p != ']') {
+            if (p == ',') {
+                parser.nextToken(); // advance past the peek
+            }
+            else {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = parser.index();
+                parser.skipValue();
+            }
+            p = parser.peekToken();
+        }
+        int length = parser.index() - begin;
+        parser.nextToken(); // advance past the peek
+
+        if (length < MIN_PARALLEL_LENGTH || count < 2) {
+            parser.seek(begin);
+            return parser.nextContainer('[').array;
+        }
+
+        // the tasks set their elements straight into the list, each at its own index
+        List<JsonValue> values = new ArrayList<>(Collections.nCopies(count, null));
+        int chunkLength = Math.max(MIN_CHUNK_LENGTH, length / (pool.getParallelism() * 4));
+        try {
+            pool.invoke(new JsonArrayTask(template, starts, values, 0, count, chunkLength));
+        }
+        catch (RuntimeException e) {
+            // the pool may have wrapped the exception again when rethrowing it on this thread
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof JsonParseException) {
+                    throw (JsonParseException) t;
+                }
+            }
+            throw e;
+        }
+        return values;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > 1 && starts[to - 1] - starts[from] > chunkLength) {
+            int mid = (from + to) >>> 1;
+            invokeAll(new JsonArrayTask(template, starts, values, from, mid, chunkLength),
+                new JsonArrayTask(template, starts, values, mid, to, chunkLength));
+            return;
+        }
+        JsonParser parser = template.duplicate();
+        parser.setDepth(1); // the elements are inside the array
+        try {
+            for (int i = from; i < to; i++) {
+                parser.seek(starts[i]);
+                values.set(i, parser.nextValue());
+            }
+        }
+        catch (JsonParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
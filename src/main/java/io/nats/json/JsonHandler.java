@@ -0,0 +1,89 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+/**
+ * Receives the parts of a JSON document as they are read by {@link JsonParser#parse(JsonHandler)},
+ * without any JsonValue tree being built. Every method does nothing by default,
+ * so a handler only implements what it needs.
+ * <p>Calls arrive in document order. Each object member is a {@link #key(CharSequence)}
+ * followed by the calls for its value. Members whose value is null are reported like any other.
+ * <p>Strings and keys are Strings, unless the parser has {@link JsonParser.Option#STRING_VIEWS},
+ * in which case they are views of the parser's buffer that are only valid until the method returns.
+ * <p>A handler can stop parsing by throwing a RuntimeException, which is passed through to the caller.
+ */
+public interface JsonHandler {
+    /**
+     * The start of an object
+     */
+    default void startObject() {}
+
+    /**
+     * The key of the next object member
+     * @param key the key
+     */
+    default void key(CharSequence key) {}
+
+    /**
+     * The end of the current object
+     */
+    default void endObject() {}
+
+    /**
+     * The start of an array
+     */
+    default void startArray() {}
+
+    /**
+     * The end of the current array
+     */
+    default void endArray() {}
+
+    /**
+     * A string value
+     * @param value the value
+     */
+    default void stringValue(CharSequence value) {}
+
+    /**
+     * An integer value that fits in a long
+     * @param value the value
+     */
+    default void longValue(long value) {}
+
+    /**
+     * A number that is parsed as a double, negative zero or a hex float
+     * @param value the value
+     */
+    default void doubleValue(double value) {}
+
+    /**
+     * A number that is parsed as a BigDecimal, any number with a fraction or exponent,
+     * or as a BigInteger, an integer too big for a long
+     * @param value the BigDecimal or BigInteger
+     */
+    default void bigValue(Number value) {}
+
+    /**
+     * A true or false value
+     * @param value the value
+     */
+    default void boolValue(boolean value) {}
+
+    /**
+     * A null value
+     */
+    default void nullValue() {}
+}
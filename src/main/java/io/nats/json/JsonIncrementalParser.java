@@ -0,0 +1,484 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.nats.json.JsonParser.Option;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A push parser for UTF-8 encoded JSON that arrives in pieces, for instance across several network reads.
+ * <p>Bytes are given to the parser with {@link #feed(byte[], int, int)} as they arrive. The parser keeps its
+ * state between chunks, including in the middle of strings, escapes, numbers and multibyte characters,
+ * so a chunk may end anywhere. Each top level value becomes available from {@link #poll()} as soon as its
+ * last byte has been fed. Several values may be fed one after another, separated by optional whitespace.</p>
+ * <p>A number at the top level has no closing character, so it is only complete once a following
+ * byte or {@link #endOfInput()} is seen.</p>
+ * <p>Values inside a container are read the same as by {@link JsonParser}, including that whitespace inside
+ * a container does not end a number or literal, and so is the maximum nesting depth, see {@link #setMaxDepth(int)}.
+ * It is stricter in two ways:</p>
+ * <ul>
+ * <li>A key must start with a {@code "}. {@link JsonParser} takes whatever character starts a key
+ * as its opening quote, so it reads {@code {a":1}} as a key of {@code ""}.</li>
+ * <li>Anything after a value must be another value. {@link JsonParser} reads one value and ignores the rest,
+ * so it reads {@code [1]]} as {@code [1]}.</li>
+ * </ul>
+ * <p>Once a {@code JsonParseException} has been thrown the parser cannot be used any more.</p>
+ */
+public class JsonIncrementalParser {
+    private static final int TOP = 0;           // between top level values
+    private static final int VALUE = 1;         // expecting an object member value
+    private static final int ARRAY_VALUE = 2;   // expecting an array item, a ',' or a ']'
+    private static final int KEY = 3;           // expecting a key or a '}'
+    private static final int COLON = 4;         // expecting the ':' after a key
+    private static final int AFTER_MEMBER = 5;  // expecting a ',' or a '}'
+    private static final int STRING = 6;        // inside a string
+    private static final int ESCAPE = 7;        // after a backslash inside a string
+    private static final int UNICODE = 8;       // inside a backslash u escape
+    private static final int UTF8 = 9;          // inside a multibyte UTF-8 sequence inside a string
+    private static final int PRIMITIVE = 10;    // inside a number or literal
+
+    private static final class Frame {
+        final Map<String, JsonValue> map;
+        final List<JsonValue> list;
+        String key;
+        boolean first = true;
+
+        Frame(Map<String, JsonValue> map, List<JsonValue> list) {
+            this.map = map;
+            this.list = list;
+        }
+    }
+
+    private final boolean keepNulls;
+    private final JsonStringCache keyCache;
+    private final JsonStringCache valueCache;
+    private final StringBuilder workBuffer = new StringBuilder(64);
+    private final NumberAccumulator number = new NumberAccumulator();
+    private final ArrayDeque<JsonValue> completed = new ArrayDeque<>();
+    private final ArrayList<Frame> frames = new ArrayList<>();
+    private Frame frame;
+    private int state = TOP;
+    private boolean stringIsKey;
+    private int unicodeRemaining;
+    private int unicodeValue;
+    private int utf8Lead;
+    private int utf8Remaining;
+    private int utf8Value;
+    private boolean utf8First;
+    private boolean failed;
+    private int maxDepth = JsonParser.DEFAULT_MAX_DEPTH;
+
+    /**
+     * Create a new JsonIncrementalParser
+     * @param options options for how to parse
+     */
+    public JsonIncrementalParser(@Nullable Option... options) {
+        keepNulls = JsonParser.hasOption(options, Option.KEEP_NULLS);
+        keyCache = JsonParser.hasOption(options, Option.CACHE_KEYS) ? JsonStringCache.defaultKeyCache() : null;
+        valueCache = JsonParser.hasOption(options, Option.CACHE_VALUES) ? JsonStringCache.defaultValueCache() : null;
+    }
+
+    /**
+     * Set the maximum nesting depth of objects and arrays. A value nested deeper
+     * fails as soon as the container past the limit is fed. The default is {@value JsonParser#DEFAULT_MAX_DEPTH}.
+     * @param maxDepth the maximum depth, at least 1
+     * @return this parser
+     */
+    @NonNull
+    public JsonIncrementalParser setMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth must be at least 1.");
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * The maximum nesting depth of objects and arrays
+     * @return the maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Feed the next chunk of bytes
+     * @param bytes the bytes
+     * @throws JsonParseException if there is a problem parsing
+     */
+    public void feed(byte[] bytes) throws JsonParseException {
+        feed(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Feed the next chunk of bytes
+     * @param bytes the array holding the bytes
+     * @param off the offset of the first byte of the chunk
+     * @param len the number of bytes in the chunk
+     * @throws JsonParseException if there is a problem parsing
+     */
+    public void feed(byte[] bytes, int off, int len) throws JsonParseException {
+        checkNotFailed();
+        int end = off + len;
+        try {
+            for (int i = off; i < end; i++) {
+                int b = bytes[i] & 0xFF;
+                if (state == STRING && b >= ' ' && b < 0x80 && b != '"' && b != '\\') {
+                    workBuffer.append((char)b);
+                }
+                else {
+                    accept(b);
+                }
+            }
+        }
+        catch (JsonParseException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Signal that there is no more input. Completes a top level number that was waiting for
+     * more input and verifies that no value was left unfinished.
+     * @throws JsonParseException if a value was left unfinished
+     */
+    public void endOfInput() throws JsonParseException {
+        checkNotFailed();
+        failed = true; // no more input is accepted either way
+        if (state == PRIMITIVE) {
+            primitiveDone();
+        }
+        switch (state) {
+            case TOP:
+                return;
+            case STRING:
+            case ESCAPE:
+            case UNICODE:
+            case UTF8:
+                throw new JsonParseException("Unterminated string.");
+            case KEY:
+            case COLON:
+            case AFTER_MEMBER:
+                throw new JsonParseException("Text must end with '}'");
+        }
+        throw new JsonParseException("Unexpected end of data.");
+    }
+
+    /**
+     * Get the next completed top level value
+     * @return the value or null if no value has been completed since the last poll
+     */
+    @Nullable
+    public JsonValue poll() {
+        return completed.poll();
+    }
+
+    /**
+     * Whether a top level value has been completed and not yet polled
+     * @return true if there is a value available
+     */
+    public boolean hasValue() {
+        return !completed.isEmpty();
+    }
+
+    /**
+     * Whether a value has been started but not yet completed
+     * @return true if the parser is in the middle of a value
+     */
+    public boolean isInsideValue() {
+        return state != TOP;
+    }
+
+    private void checkNotFailed() {
+        if (failed) {
+            throw new IllegalStateException("Parser cannot accept more input.");
+        }
+    }
+
+    private void accept(int b) throws JsonParseException {
+        switch (state) {
+            case STRING:
+                if (b == '"') {
+                    stringDone();
+                }
+                else if (b == '\\') {
+                    state = ESCAPE;
+                }
+                else if (b == 0 || b == '\n' || b == '\r') {
+                    throw new JsonParseException("Unterminated string.");
+                }
+                else if (b < 0x80) {
+                    workBuffer.append((char)b);
+                }
+                else {
+                    startUtf8(b);
+                }
+                return;
+
+            case ESCAPE:
+                escape(b);
+                return;
+
+            case UNICODE:
+                unicode(b);
+                return;
+
+            case UTF8:
+                utf8Continuation(b);
+                return;
+
+            case PRIMITIVE:
+                if (frame != null && JsonInput.isWhitespace(b)) {
+                    return; // like JsonParser, whitespace inside a container does not end a number or literal
+                }
+                if (b >= ' ' && b < 0x80 && !JsonInput.isWhitespace(b) && JsonParser.isNotDelimiter((char)b)) {
+                    workBuffer.append((char)b);
+                    number.accept((char)b);
+                    return;
+                }
+                primitiveDone();
+                accept(b);
+                return;
+        }
+
+        if (JsonInput.isWhitespace(b)) {
+            return;
+        }
+
+        switch (state) {
+            case TOP:
+            case VALUE:
+                startValue(b);
+                return;
+
+            case ARRAY_VALUE:
+                if (b == ']') {
+                    containerDone();
+                }
+                else if (b != ',') {
+                    startValue(b);
+                }
+                return;
+
+            case KEY:
+                if (b == '"') {
+                    workBuffer.setLength(0);
+                    stringIsKey = true;
+                    state = STRING;
+                }
+                else if (b == '}') {
+                    containerDone(); // empty or dangling comma
+                }
+                else if ((b == '{' || b == '[') && frame.first) {
+                    throw new JsonParseException("Cannot directly nest another Object or Array.");
+                }
+                else {
+                    throw new JsonParseException("Expected a key.");
+                }
+                return;
+
+            case COLON:
+                if (b != ':') {
+                    throw new JsonParseException("Expected a ':' after a key.");
+                }
+                state = VALUE;
+                return;
+
+            case AFTER_MEMBER:
+                if (b == ',') {
+                    frame.first = false;
+                    state = KEY;
+                }
+                else if (b == '}') {
+                    containerDone();
+                }
+                else {
+                    throw new JsonParseException("Expected a ',' or '}'.");
+                }
+        }
+    }
+
+    private void startValue(int b) throws JsonParseException {
+        switch (b) {
+            case '"':
+                workBuffer.setLength(0);
+                stringIsKey = false;
+                state = STRING;
+                return;
+            case '{':
+                push(new Frame(new HashMap<>(8), null));
+                state = KEY;
+                return;
+            case '[':
+                push(new Frame(null, new ArrayList<>(8)));
+                state = ARRAY_VALUE;
+                return;
+        }
+        if (b < ' ' || b >= 0x80 || !JsonParser.isNotDelimiter((char)b)) {
+            throw new JsonParseException();
+        }
+        workBuffer.setLength(0);
+        workBuffer.append((char)b);
+        number.reset();
+        number.accept((char)b);
+        state = PRIMITIVE;
+    }
+
+    private void push(Frame f) throws JsonParseException {
+        if (frame != null) {
+            if (frames.size() + 2 > maxDepth) {
+                throw new JsonParseException("Maximum nesting depth of " + maxDepth + " exceeded.");
+            }
+            frames.add(frame);
+        }
+        frame = f;
+    }
+
+    private void escape(int b) throws JsonParseException {
+        state = STRING;
+        switch (b) {
+            case 'b':
+                workBuffer.append('\b');
+                break;
+            case 't':
+                workBuffer.append('\t');
+                break;
+            case 'n':
+                workBuffer.append('\n');
+                break;
+            case 'f':
+                workBuffer.append('\f');
+                break;
+            case 'r':
+                workBuffer.append('\r');
+                break;
+            case 'u':
+                unicodeRemaining = 4;
+                unicodeValue = 0;
+                state = UNICODE;
+                break;
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                workBuffer.append((char)b);
+                break;
+            default:
+                throw new JsonParseException("Illegal escape.");
+        }
+    }
+
+    private void unicode(int b) throws JsonParseException {
+        int digit;
+        if (b >= '0' && b <= '9') digit = b - '0';
+        else if (b >= 'A' && b <= 'F') digit = b - 'A' + 10;
+        else if (b >= 'a' && b <= 'f') digit = b - 'a' + 10;
+        else throw new JsonParseException("Illegal escape.");
+
+        unicodeValue = (unicodeValue << 4) | digit;
+        if (--unicodeRemaining == 0) {
+            workBuffer.append((char)unicodeValue);
+            state = STRING;
+        }
+    }
+
+    private void startUtf8(int b) throws JsonParseException {
+        if (b < 0xC2 || b > 0xF4) {
+            throw Utf8JsonInput.invalidUtf8();
+        }
+        utf8Lead = b;
+        utf8First = true;
+        if (b < 0xE0) {
+            utf8Remaining = 1;
+            utf8Value = b & 0x1F;
+        }
+        else if (b < 0xF0) {
+            utf8Remaining = 2;
+            utf8Value = b & 0x0F;
+        }
+        else {
+            utf8Remaining = 3;
+            utf8Value = b & 0x07;
+        }
+        state = UTF8;
+    }
+
+    private void utf8Continuation(int b) throws JsonParseException {
+        if ((b & 0xC0) != 0x80) {
+            throw Utf8JsonInput.invalidUtf8();
+        }
+        if (utf8First) {
+            utf8First = false;
+            if ((utf8Lead == 0xE0 && b < 0xA0) || (utf8Lead == 0xED && b >= 0xA0)
+                || (utf8Lead == 0xF0 && b < 0x90) || (utf8Lead == 0xF4 && b >= 0x90)) {
+                throw Utf8JsonInput.invalidUtf8(); // overlong, surrogate or above U+10FFFF
+            }
+        }
+        utf8Value = (utf8Value << 6) | (b & 0x3F);
+        if (--utf8Remaining == 0) {
+            if (utf8Value < 0x10000) {
+                workBuffer.append((char)utf8Value);
+            }
+            else {
+                workBuffer.append(Character.highSurrogate(utf8Value)).append(Character.lowSurrogate(utf8Value));
+            }
+            state = STRING;
+        }
+    }
+
+    private void stringDone() throws JsonParseException {
+        if (stringIsKey) {
+            frame.key = cachedString(keyCache);
+            state = COLON;
+        }
+        else {
+            valueDone(new JsonValue(cachedString(valueCache)));
+        }
+    }
+
+    private String cachedString(@Nullable JsonStringCache cache) {
+        return cache == null ? workBuffer.toString() : cache.get(workBuffer, 0, workBuffer.length());
+    }
+
+    private void primitiveDone() throws JsonParseException {
+        valueDone(JsonParser.primitiveValue(workBuffer, number));
+    }
+
+    private void containerDone() {
+        Frame done = frame;
+        frame = frames.isEmpty() ? null : frames.remove(frames.size() - 1);
+        valueDone(done.map == null ? JsonValue.adoptArray(done.list) : new JsonValue(done.map));
+    }
+
+    private void valueDone(JsonValue value) {
+        if (frame == null) {
+            completed.add(value);
+            state = TOP;
+        }
+        else if (frame.map == null) {
+            frame.list.add(value);
+            state = ARRAY_VALUE;
+        }
+        else {
+            if (value != JsonValue.NULL || keepNulls) {
+                frame.map.put(frame.key, value);
+            }
+            state = AFTER_MEMBER;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The source of characters for the {@code JsonParser}.
+ * Implementations own the read position for their backing data.
+ */
+abstract class JsonInput {
+    static final int STREAM_BUFFER_SIZE = 8192;
+
+    /**
+     * Skip any whitespace and return the next character without consuming it.
+     * @return the character or 0 if there is no more data
+     * @throws JsonParseException if the data cannot be read
+     */
+    abstract char peekToken() throws JsonParseException;
+
+    /**
+     * Skip any whitespace and consume the next character.
+     * @return the character or 0 if there is no more data
+     * @throws JsonParseException if the data cannot be read
+     */
+    abstract char nextToken() throws JsonParseException;
+
+    /**
+     * Consume the next character exactly as it appears, without skipping whitespace.
+     * Used when reading the inside of strings.
+     * @return the character or 0 if there is no more data
+     * @throws JsonParseException if the data cannot be read
+     */
+    abstract char nextChar() throws JsonParseException;
+
+    /**
+     * Read the rest of a string, after its opening quote, in one bulk operation when it has no escapes.
+     * If the string has an escape or anything else that needs character by character handling,
+     * or runs past the data currently available, the characters before that point are appended
+     * to the builder and null is returned so the caller can continue with {@link #nextChar()}.
+     * @param sb the builder for the characters read before returning null, expected to be empty
+     * @param cache if not null, where the string is looked up instead of always being created
+     * @return the string, with the closing quote consumed, or null
+     * @throws JsonParseException if the data cannot be read
+     */
+    String nextUnescapedString(StringBuilder sb, @Nullable JsonStringCache cache) throws JsonParseException {
+        return null;
+    }
+
+    /**
+     * A new input over the same data, so it can be read again at any index with {@link #seek(int)}
+     * @return the input, or null if the data cannot be read again, such as when it comes from a stream
+     */
+    JsonInput duplicate() {
+        return null;
+    }
+
+    /**
+     * Move to an index in the backing data. Only supported by inputs that can be duplicated.
+     * @param index the index of the next character to read
+     */
+    void seek(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The index in the backing data of the next unread character. For data read in pieces,
+     * from a stream or a file mapped in segments, it counts from the start of the first piece,
+     * so it is a long. Data that can be duplicated and seeked is always indexed by an int.
+     * @return the index
+     */
+    abstract long index();
+
+    /**
+     * The number of units from the read position to the end of the data that is available now
+     * @return the number of units
+     */
+    abstract int remaining();
+
+    /**
+     * Called when every available character has been read. Inputs that read from a stream
+     * override this to refill their buffer; the new data is placed starting at index 0 of the buffer.
+     * @return the number of units now available, or -1 if there is no more data
+     * @throws JsonParseException if the data cannot be read
+     */
+    int fill() throws JsonParseException {
+        return -1;
+    }
+
+    static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One line read by a {@link JsonLinesReader}, either the value it holds or the reason it could not be parsed.
+ */
+public final class JsonLine {
+    private final long lineNumber;
+    private final JsonValue value;
+    private final JsonParseException error;
+
+    JsonLine(long lineNumber, @Nullable JsonValue value, @Nullable JsonParseException error) {
+        this.lineNumber = lineNumber;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * The number of the line in the input, starting at 1. Blank lines are counted but not returned.
+     * @return the line number
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Whether the line held a valid JSON value
+     * @return true if it did
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * The value of the line
+     * @return the value, or null if the line was malformed
+     */
+    @Nullable
+    public JsonValue getValue() {
+        return value;
+    }
+
+    /**
+     * The value of the line, throwing the parse error if the line was malformed
+     * @return the value
+     * @throws JsonParseException the error for a malformed line
+     */
+    @NonNull
+    public JsonValue getValueOrThrow() throws JsonParseException {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+
+    /**
+     * Why the line could not be parsed. The message starts with the line number.
+     * @return the error, or null if the line was valid
+     */
+    @Nullable
+    public JsonParseException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? lineNumber + ": " + value : lineNumber + ": " + error.getMessage();
+    }
+}
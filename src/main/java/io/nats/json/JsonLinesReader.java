@@ -0,0 +1,400 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.nats.json.JsonParser.Option;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads newline delimited JSON, also known as JSON Lines or NDJSON, one value per line.
+ * <p>Each line is returned as a {@link JsonLine}. A line that is not valid JSON, or has anything
+ * but whitespace after its value, is returned with its error and line number, and reading continues
+ * with the next line. Blank lines are skipped. Lines may end with {@code \n} or {@code \r\n}.
+ * <pre>
+ * try (JsonLinesReader reader = JsonLinesReader.open(path)) {
+ *     reader.values(bad -&gt; log(bad.getError())).forEach(this::process);
+ * }
+ * </pre>
+ * <p>By default lines are parsed on the calling thread, reusing one parser.
+ * {@link #parallel(Executor, int, boolean)} fans the lines out to worker threads.
+ * A reader is not thread safe, it is meant to be consumed by one thread.
+ */
+public class JsonLinesReader implements Iterator<JsonLine>, Closeable {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final Option[] options;
+    private final JsonParser parser;
+    private final boolean lazy;
+
+    // the source, either a buffer or a stream
+    private final ByteBuffer data;
+    private final InputStream in;
+    private byte[] buf;
+    private int start;
+    private int end;
+    private boolean eof;
+
+    private long lineNumber;
+    private JsonLine next;
+
+    // parallel parsing
+    private Executor executor;
+    private int window;
+    private ArrayDeque<Future<JsonLine>> pending; // every line submitted and not yet returned, in order
+    private CompletionService<JsonLine> unordered; // null when the lines are returned in order
+
+    /**
+     * Construct a reader over the UTF-8 encoded lines in a ByteBuffer, such as a memory mapped file,
+     * from its position to its limit. The buffer's position is not changed.
+     * @param data the data
+     * @param options options for how to parse each line
+     */
+    public JsonLinesReader(@NonNull ByteBuffer data, @Nullable Option... options) {
+        this(data.duplicate(), null, options);
+    }
+
+    /**
+     * Construct a reader over the UTF-8 encoded lines in an InputStream.
+     * Closing the reader closes the stream.
+     * @param in the stream
+     * @param options options for how to parse each line
+     */
+    public JsonLinesReader(@NonNull InputStream in, @Nullable Option... options) {
+        this(null, in, options);
+    }
+
+    private JsonLinesReader(ByteBuffer data, InputStream in, Option[] options) {
+        this.data = data;
+        this.in = in;
+        this.options = options;
+        lazy = JsonParser.hasOption(options, Option.LAZY);
+        parser = new JsonParser((byte[]) null);
+        if (in != null) {
+            buf = new byte[STREAM_BUFFER_SIZE];
+        }
+    }
+
+    /**
+     * Open a reader over the lines of a file. A file that fits in a ByteBuffer is memory mapped,
+     * a larger one is read as a stream.
+     * @param file the file
+     * @param options options for how to parse each line
+     * @return the reader
+     * @throws IOException if the file cannot be opened
+     */
+    @NonNull
+    public static JsonLinesReader open(@NonNull Path file, @Nullable Option... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= Integer.MAX_VALUE) {
+                // the mapping stays valid after the channel is closed
+                return new JsonLinesReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), options);
+            }
+        }
+        return new JsonLinesReader(Files.newInputStream(file), options);
+    }
+
+    /**
+     * Parse lines on worker threads. Lines are read on the consuming thread and up to window of them
+     * are parsed at the same time. Must be called before the first line is read.
+     * @param executor the executor that runs the workers
+     * @param window the maximum number of lines being parsed at once
+     * @param inOrder true to return the lines in the order they appear,
+     *                false to return each as soon as it is parsed
+     * @return this reader
+     */
+    @NonNull
+    public JsonLinesReader parallel(@NonNull Executor executor, int window, boolean inOrder) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be at least 1.");
+        }
+        if (lineNumber > 0) {
+            throw new IllegalStateException("Lines have already been read.");
+        }
+        this.executor = executor;
+        this.window = window;
+        pending = new ArrayDeque<>(window);
+        if (!inOrder) {
+            unordered = new ExecutorCompletionService<>(executor);
+        }
+        return this;
+    }
+
+    /**
+     * Whether there is another line
+     * @return true if there is
+     * @throws UncheckedIOException if the stream cannot be read
+     */
+    @Override
+    public boolean hasNext() {
+        if (executor == null) {
+            if (next == null) {
+                ByteBuffer line = nextLine();
+                if (line != null) {
+                    next = parseLine(parser, lazy ? own(line) : line, lineNumber, options);
+                }
+            }
+            return next != null;
+        }
+        while (pending.size() < window) {
+            ByteBuffer line = nextLine();
+            if (line == null) {
+                break;
+            }
+            ByteBuffer own = own(line);
+            long number = lineNumber;
+            Callable<JsonLine> task = () -> parseLine(own, number, options);
+            if (unordered == null) {
+                FutureTask<JsonLine> f = new FutureTask<>(task);
+                executor.execute(f);
+                pending.add(f);
+            }
+            else {
+                pending.add(unordered.submit(task));
+            }
+        }
+        return !pending.isEmpty();
+    }
+
+    /**
+     * The next line
+     * @return the line
+     * @throws NoSuchElementException if there are no more lines
+     * @throws UncheckedIOException if the stream cannot be read
+     */
+    @Override
+    public JsonLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (executor == null) {
+            JsonLine line = next;
+            next = null;
+            return line;
+        }
+        try {
+            if (unordered == null) {
+                return pending.poll().get();
+            }
+            Future<JsonLine> f = unordered.take();
+            pending.remove(f);
+            return f.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a line to be parsed.", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * The remaining lines as a sequential Stream. Closing the stream closes this reader.
+     * @return the stream
+     */
+    @NonNull
+    public Stream<JsonLine> lines() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::closeUnchecked);
+    }
+
+    /**
+     * The values of the remaining valid lines as a sequential Stream. Closing the stream closes this reader.
+     * @param malformed given each line that could not be parsed
+     * @return the stream
+     */
+    @NonNull
+    public Stream<JsonValue> values(@NonNull Consumer<JsonLine> malformed) {
+        return lines().filter(line -> {
+            if (line.isValid()) {
+                return true;
+            }
+            malformed.accept(line);
+            return false;
+        }).map(JsonLine::getValue);
+    }
+
+    /**
+     * Close the reader, and its stream if it reads from one. Lines submitted for parallel parsing that
+     * have not started are cancelled, and the results of lines already being parsed are dropped.
+     * @throws IOException if the stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (pending != null) {
+            for (Future<JsonLine> f : pending) {
+                f.cancel(false);
+            }
+            pending.clear();
+        }
+        eof = true;
+        next = null;
+        if (data != null) {
+            data.position(data.limit());
+        }
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // the next line that is not blank, without its line end, or null at the end of the data
+    private ByteBuffer nextLine() {
+        ByteBuffer line = readLine();
+        while (line != null && isBlank(line)) {
+            line = readLine();
+        }
+        return line;
+    }
+
+    private ByteBuffer readLine() {
+        if (data != null) {
+            int from = data.position();
+            int limit = data.limit();
+            if (from == limit) {
+                return null;
+            }
+            int nl = from;
+            while (nl < limit && data.get(nl) != '\n') {
+                nl++;
+            }
+            ByteBuffer line = data.duplicate();
+            line.limit(nl);
+            data.position(nl == limit ? limit : nl + 1);
+            lineNumber++;
+            return line;
+        }
+
+        int scan = start;
+        while (true) {
+            while (scan < end) {
+                if (buf[scan] == '\n') {
+                    ByteBuffer line = ByteBuffer.wrap(buf, start, scan - start);
+                    start = scan + 1;
+                    lineNumber++;
+                    return line;
+                }
+                scan++;
+            }
+            if (eof) {
+                if (start == end) {
+                    return null;
+                }
+                ByteBuffer line = ByteBuffer.wrap(buf, start, end - start);
+                start = end;
+                lineNumber++;
+                return line;
+            }
+            // make room after the partial line, growing the buffer for a line longer than it
+            int partial = end - start;
+            if (start > 0) {
+                System.arraycopy(buf, start, buf, 0, partial);
+            }
+            else if (partial == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            start = 0;
+            end = partial;
+            scan = partial;
+            try {
+                int n = in.read(buf, end, buf.length - end);
+                if (n < 0) {
+                    eof = true;
+                }
+                else {
+                    end += n;
+                }
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // the stream buffer is reused, so a line that is used after the next one is read gets its own copy
+    private ByteBuffer own(ByteBuffer line) {
+        return in == null ? line : ByteBuffer.wrap(Arrays.copyOfRange(line.array(), line.position(), line.limit()));
+    }
+
+    private static boolean isBlank(ByteBuffer line) {
+        for (int i = line.position(); i < line.limit(); i++) {
+            if (!JsonInput.isWhitespace(line.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JsonLine parseLine(ByteBuffer line, long number, Option[] options) {
+        JsonParserPool pool = JsonParserPool.getDefault();
+        JsonParser parser = pool.acquire();
+        try {
+            return parseLine(parser, line, number, options);
+        }
+        finally {
+            pool.release(parser);
+        }
+    }
+
+    private static JsonLine parseLine(JsonParser parser, ByteBuffer line, long number, Option[] options) {
+        try {
+            JsonValue value = parser.reset(line, options).parse();
+            if (!isBlank(line)) {
+                throw new JsonParseException("Unexpected data after the value.");
+            }
+            return new JsonLine(number, value, null);
+        }
+        catch (JsonParseException e) {
+            return new JsonLine(number, null, new JsonParseException("Line " + number + ": " + e.getMessage(), e));
+        }
+    }
+}
@@ -26,11 +26,14 @@ public class JsonParseException extends IOException {
      */
     public static final String INVALID_VALUE = "Invalid value.";
 
+    private final long offset;
+
     /**
      * Constructs a {@code JsonParseException} with the message {@value #INVALID_VALUE}.
      */
     public JsonParseException() {
         super(INVALID_VALUE);
+        offset = -1;
     }
 
     /**
@@ -42,6 +45,24 @@ public class JsonParseException extends IOException {
      */
     public JsonParseException(String message) {
         super(message);
+        offset = -1;
+    }
+
+    /**
+     * Constructs a {@code JsonParseException} with the specified detail message
+     * and the offset in the input where the problem was found.
+     *
+     * @param message
+     *        The detail message (which is saved for later retrieval
+     *        by the {@link #getMessage()} method)
+     *
+     * @param offset
+     *        The offset (which is saved for later retrieval
+     *        by the {@link #getOffset()} method)
+     */
+    public JsonParseException(String message, long offset) {
+        super(message);
+        this.offset = offset;
     }
 
     /**
@@ -63,6 +84,7 @@ public class JsonParseException extends IOException {
      */
     public JsonParseException(String message, Throwable cause) {
         super(message, cause);
+        offset = -1;
     }
 
     /**
@@ -79,5 +101,16 @@ public class JsonParseException extends IOException {
      */
     public JsonParseException(Throwable cause) {
         super(cause);
+        offset = -1;
+    }
+
+    /**
+     * The offset in the input where the problem was found, in chars for char input
+     * and in bytes for UTF-8 input. Reported by {@code JsonParser.validate}.
+     * It is a long since streams and files can be longer than an int can index.
+     * @return the offset, or -1 if it is not known
+     */
+    public long getOffset() {
+        return offset;
     }
 }
@@ -17,18 +17,30 @@ package io.nats.json;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.nio.charset.CharacterCodingException;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * Class that can parse JSON to a JsonValue
+ * Class that can parse JSON to a JsonValue.
+ * A JsonParser is not thread safe. An instance can be reused for another document
+ * with one of the {@code reset} methods, which keeps its internal buffers,
+ * or borrowed from a {@link JsonParserPool}.
  */
 public class JsonParser {
 
@@ -39,9 +51,53 @@ public class JsonParser {
         /**
          * Keep nulls when parsing. Usually ignored
          */
-        KEEP_NULLS
+        KEEP_NULLS,
+
+        /**
+         * Return object keys from the shared {@link JsonStringCache#defaultKeyCache()}
+         * instead of creating a new String for every key
+         */
+        CACHE_KEYS,
+
+        /**
+         * Return short string values from the shared {@link JsonStringCache#defaultValueCache()}
+         * so values that repeat, such as enum-like settings, share one String instance
+         */
+        CACHE_VALUES,
+
+        /**
+         * Parse lazily. Only the structure of the document is read up front, into a compact index.
+         * Object and array contents are built from the index the first time they are accessed,
+         * and their strings and numbers are read and validated at that point,
+         * so a problem with them is thrown then, as a RuntimeException.
+         * Lazy maps and arrays are read only, and keep the input data reachable while they are.
+         * The input is not copied: a char array, byte array, ByteBuffer or mapped file must not be
+         * modified while any lazy value from it is still in use, or the values read later change with it
+         * or fail to parse. Parse without this option if the input will be reused.
+         * Ignored when parsing from a stream.
+         */
+        LAZY,
+
+        /**
+         * Parse the elements of a large top-level array in parallel on the common {@link ForkJoinPool}.
+         * Arrays shorter than 64K characters or bytes, other top-level values
+         * and nested arrays are parsed sequentially. Ignored when parsing from a stream or lazily.
+         * See {@link #parse(ForkJoinPool)} to supply the pool.
+         */
+        PARALLEL,
+
+        /**
+         * When parsing with a {@link JsonHandler}, give strings and keys to the handler as views of the
+         * parser's buffer instead of as Strings. A view is only valid until the handler method returns.
+         */
+        STRING_VIEWS
     }
 
+    /**
+     * The default maximum nesting depth of objects and arrays, see {@link #setMaxDepth(int)}
+     */
+    public static final int DEFAULT_MAX_DEPTH = 1000;
+
     private static final boolean[] IS_DELIMITER = new boolean[128];
 
     static {
@@ -50,7 +106,22 @@ public class JsonParser {
         }
     }
 
-    private final StringBuilder workBuffer = new StringBuilder(64);
+    // an open container of nextContainer, either the array or the object and the key of its member being read
+    private static final class Frame {
+        List<JsonValue> array;
+        Map<String, JsonValue> object;
+        String key;
+    }
+
+    private static final int MAX_RETAINED_WORK_BUFFER = 4096;
+    private static final JsonInput EMPTY_INPUT = new CharSequenceJsonInput("", 0);
+
+    private StringBuilder workBuffer = new StringBuilder(64);
+    private final NumberAccumulator number = new NumberAccumulator();
+    private Frame[] frames = new Frame[16];         // the open containers of nextContainer, reused between parses
+    private boolean[] frameIsArray = new boolean[16]; // the open containers of handleContainer and validateContainer
+    private int depth;                              // the open containers of the recursive methods
+    private int maxDepth = DEFAULT_MAX_DEPTH;
 
     /**
      * Parse JSON from a char array
@@ -109,7 +180,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(String json) throws JsonParseException {
-        return new JsonParser(json.toCharArray(), 0).parse();
+        return new JsonParser(json, 0).parse();
     }
 
 
@@ -122,7 +193,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(String json, int startIndex) throws JsonParseException {
-        return new JsonParser(json.toCharArray(), startIndex).parse();
+        return new JsonParser(json, startIndex).parse();
     }
 
     /**
@@ -134,7 +205,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(String json, @Nullable Option... options) throws JsonParseException {
-        return new JsonParser(json.toCharArray(), 0, options).parse();
+        return new JsonParser(json, 0, options).parse();
     }
 
     /**
@@ -147,22 +218,22 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(String json, int startIndex, @Nullable Option... options) throws JsonParseException {
-        return new JsonParser(json.toCharArray(), startIndex, options).parse();
+        return new JsonParser(json, startIndex, options).parse();
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @return the JsonValue
      * @throws JsonParseException if there is a problem parsing
      */
     @NonNull
     public static JsonValue parse(byte[] json) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), 0).parse();
+        return new JsonParser(json, 0).parse();
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @param startIndex the starting index in the array
      * @return the JsonValue
@@ -170,11 +241,11 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json, int startIndex) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), startIndex).parse();
+        return new JsonParser(json, startIndex).parse();
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @param options options for how to parse
      * @return the JsonValue
@@ -182,11 +253,11 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json, @Nullable Option... options) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), 0, options).parse();
+        return new JsonParser(json, 0, options).parse();
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @param startIndex the starting index in the array
      * @param options options for how to parse
@@ -195,7 +266,249 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json, int startIndex, @Nullable Option... options) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), startIndex, options).parse();
+        return new JsonParser(json, startIndex, options).parse();
+    }
+
+    /**
+     * Parse JSON from the UTF-8 encoded bytes in a ByteBuffer, reading from its position to its limit.
+     * The buffer may be direct; the bytes are not copied. On success the buffer's position
+     * is left at the end of the consumed document.
+     * @param json the JSON
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public static JsonValue parse(@Nullable ByteBuffer json) throws JsonParseException {
+        return new JsonParser(json).parse();
+    }
+
+    /**
+     * Parse JSON from the UTF-8 encoded bytes in a ByteBuffer, reading from its position to its limit.
+     * The buffer may be direct; the bytes are not copied. On success the buffer's position
+     * is left at the end of the consumed document.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public static JsonValue parse(@Nullable ByteBuffer json, @Nullable Option... options) throws JsonParseException {
+        return new JsonParser(json, options).parse();
+    }
+
+    /**
+     * Parse JSON from an InputStream of UTF-8 encoded JSON.
+     * The data is read through a fixed size buffer, so only the resulting JsonValue grows with the size of the input.
+     * Reading stops once the document is complete, but data after the end of the document may already
+     * have been read into the buffer. The stream is not closed.
+     * @param json the JSON
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull InputStream json) throws IOException {
+        return parse(json, (Option[])null);
+    }
+
+    /**
+     * Parse JSON from an InputStream of UTF-8 encoded JSON.
+     * The data is read through a fixed size buffer, so only the resulting JsonValue grows with the size of the input.
+     * Reading stops once the document is complete, but data after the end of the document may already
+     * have been read into the buffer. The stream is not closed.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull InputStream json, @Nullable Option... options) throws IOException {
+        return parseStream(new InputStreamJsonInput(json, new byte[JsonInput.STREAM_BUFFER_SIZE]), options);
+    }
+
+    /**
+     * Parse JSON from a Reader.
+     * The data is read through a fixed size buffer, so only the resulting JsonValue grows with the size of the input.
+     * Reading stops once the document is complete, but data after the end of the document may already
+     * have been read into the buffer. The reader is not closed.
+     * @param json the JSON
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull Reader json) throws IOException {
+        return parse(json, (Option[])null);
+    }
+
+    /**
+     * Parse JSON from a Reader.
+     * The data is read through a fixed size buffer, so only the resulting JsonValue grows with the size of the input.
+     * Reading stops once the document is complete, but data after the end of the document may already
+     * have been read into the buffer. The reader is not closed.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull Reader json, @Nullable Option... options) throws IOException {
+        return parseStream(new ReaderJsonInput(json, new char[JsonInput.STREAM_BUFFER_SIZE]), options);
+    }
+
+    /**
+     * Parse JSON from a blocking ReadableByteChannel of UTF-8 encoded JSON.
+     * The data is read through a fixed size buffer, so only the resulting JsonValue grows with the size of the input.
+     * Reading stops once the document is complete, but data after the end of the document may already
+     * have been read into the buffer. The channel is not closed.
+     * @param json the JSON
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull ReadableByteChannel json) throws IOException {
+        return parse(json, (Option[])null);
+    }
+
+    /**
+     * Parse JSON from a blocking ReadableByteChannel of UTF-8 encoded JSON.
+     * The data is read through a fixed size buffer, so only the resulting JsonValue grows with the size of the input.
+     * Reading stops once the document is complete, but data after the end of the document may already
+     * have been read into the buffer. The channel is not closed.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull ReadableByteChannel json, @Nullable Option... options) throws IOException {
+        return parseStream(new InputStreamJsonInput(Channels.newInputStream(json), new byte[JsonInput.STREAM_BUFFER_SIZE]), options);
+    }
+
+    /**
+     * Parse JSON from a file of UTF-8 encoded JSON. The file is memory mapped and read directly
+     * from the mapping, so it is never copied onto the heap. A file of 2GB or more is mapped and read
+     * one segment at a time, and the lazy option is ignored for it.
+     * @param json the path of the file
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull Path json) throws IOException {
+        return parse(json, (Option[])null);
+    }
+
+    /**
+     * Parse JSON from a file of UTF-8 encoded JSON. The file is memory mapped and read directly
+     * from the mapping, so it is never copied onto the heap. A file of 2GB or more is mapped and read
+     * one segment at a time, and the lazy option is ignored for it.
+     * With {@link Option#LAZY} the values are read from the mapping when they are first accessed,
+     * so the heap used up front does not grow with the size of the file, and the file must not be
+     * changed while the lazy values are in use.
+     * @param json the path of the file
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IOException if there is a problem reading
+     */
+    @NonNull
+    public static JsonValue parse(@NonNull Path json, @Nullable Option... options) throws IOException {
+        return parse(json, Integer.MAX_VALUE, options);
+    }
+
+    static JsonValue parse(Path json, int segmentSize, @Nullable Option... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(json, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= segmentSize) {
+                // the mapping stays valid after the channel is closed
+                return new JsonParser(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), options).parse();
+            }
+            return parseStream(new MappedFileJsonInput(channel, size, segmentSize), options);
+        }
+    }
+
+    /**
+     * Parse only the projected fields from a char array
+     * @param json the JSON
+     * @param projection the key paths to keep
+     * @param options options for how to parse
+     * @return the JsonValue with only the projected fields
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public static JsonValue parse(char @Nullable [] json, @NonNull JsonProjection projection, @Nullable Option... options) throws JsonParseException {
+        return new JsonParser(json, options).parse(projection);
+    }
+
+    /**
+     * Parse only the projected fields from a String
+     * @param json the JSON
+     * @param projection the key paths to keep
+     * @param options options for how to parse
+     * @return the JsonValue with only the projected fields
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public static JsonValue parse(@Nullable String json, @NonNull JsonProjection projection, @Nullable Option... options) throws JsonParseException {
+        return new JsonParser(json, options).parse(projection);
+    }
+
+    /**
+     * Parse only the projected fields from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @param projection the key paths to keep
+     * @param options options for how to parse
+     * @return the JsonValue with only the projected fields
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public static JsonValue parse(byte @Nullable [] json, @NonNull JsonProjection projection, @Nullable Option... options) throws JsonParseException {
+        return new JsonParser(json, options).parse(projection);
+    }
+
+    /**
+     * Check that a char array holds JSON that would parse, without building anything from it.
+     * The same rules are applied as when parsing, but no JsonValue, String or collection is created.
+     * @param json the JSON
+     * @throws JsonParseException if the JSON would not parse, with the offset where the problem was found
+     */
+    public static void validate(char @Nullable [] json) throws JsonParseException {
+        new JsonParser(json).validate();
+    }
+
+    /**
+     * Check that a byte array holds UTF-8 encoded JSON that would parse, without building anything from it.
+     * The same rules are applied as when parsing, but no JsonValue, String or collection is created.
+     * @param json the JSON
+     * @throws JsonParseException if the JSON would not parse, with the offset where the problem was found
+     */
+    public static void validate(byte @Nullable [] json) throws JsonParseException {
+        new JsonParser(json).validate();
+    }
+
+    /**
+     * Check that a ByteBuffer holds UTF-8 encoded JSON that would parse, from its position to its limit,
+     * without building anything from it. The same rules are applied as when parsing,
+     * but no JsonValue, String or collection is created. The buffer's position is not changed.
+     * @param json the JSON
+     * @throws JsonParseException if the JSON would not parse, with the offset where the problem was found
+     */
+    public static void validate(@Nullable ByteBuffer json) throws JsonParseException {
+        new JsonParser(json).validate();
+    }
+
+    private static JsonValue parseStream(JsonInput input, @Nullable Option... options) throws IOException {
+        try {
+            return new JsonParser(input, options).parse();
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
@@ -303,7 +616,7 @@ public class JsonParser {
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @return the JsonValue
      * @throws RuntimeException if there is a problem parsing
@@ -315,7 +628,7 @@ public class JsonParser {
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @param startIndex the starting index in the array
      * @return the JsonValue
@@ -328,7 +641,7 @@ public class JsonParser {
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @param options options for how to parse
      * @return the JsonValue
@@ -341,7 +654,7 @@ public class JsonParser {
     }
 
     /**
-     * Parse JSON from a byte array
+     * Parse JSON from a byte array of UTF-8 encoded JSON
      * @param json the JSON
      * @param startIndex the starting index in the array
      * @param options options for how to parse
@@ -354,224 +667,1296 @@ public class JsonParser {
         catch (JsonParseException j) { throw new RuntimeException(j); }
     }
 
-    private final char @NonNull [] json;
-    private final boolean keepNulls;
-    private final int len;
-    private int idx;
-    private int nextIdx;
-    private char previous;
-    private char current;
-    private char next;
-
     /**
-     * Create a new JsonParse object from a char array
+     * Parse JSON from the UTF-8 encoded bytes in a ByteBuffer, reading from its position to its limit.
      * @param json the JSON
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing
      */
-    public JsonParser(char @Nullable [] json) {
-        this(json, 0);
+    @NonNull
+    public static JsonValue parseUnchecked(@Nullable ByteBuffer json) {
+        try { return parse(json); }
+        catch (JsonParseException j) { throw new RuntimeException(j); }
     }
 
     /**
-     * Create a new JsonParse object from a char array
+     * Parse JSON from the UTF-8 encoded bytes in a ByteBuffer, reading from its position to its limit.
      * @param json the JSON
      * @param options options for how to parse
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing
      */
-    public JsonParser(char @Nullable [] json, @Nullable Option... options) {
-        this(json, 0, options);
+    @NonNull
+    public static JsonValue parseUnchecked(@Nullable ByteBuffer json, @Nullable Option... options) {
+        try { return parse(json, options); }
+        catch (JsonParseException j) { throw new RuntimeException(j); }
     }
 
     /**
-     * Create a new JsonParse object from a char array
+     * Parse JSON from an InputStream of UTF-8 encoded JSON.
      * @param json the JSON
-     * @param startIndex the starting index in the array
-     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
      */
-    public JsonParser(char @Nullable [] json, int startIndex, @Nullable Option... options) {
-        keepNulls = options != null && options.length > 0; // KEEP_NULLS is currently the only option
-
-        if (json == null) {
-            this.json = new char[0];
-            len = 0;
-        }
-        else {
-            this.json = json;
-            len = json.length;
-        }
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull InputStream json) {
+        try { return parse(json); }
+        catch (IOException e) { throw new RuntimeException(e); }
+    }
 
-        idx = startIndex;
-        if (startIndex < 0) {
-            throw new IllegalArgumentException("Invalid start index.");
-        }
-        nextIdx = -1;
-        previous = 0;
-        current = 0;
-        next = 0;
+    /**
+     * Parse JSON from an InputStream of UTF-8 encoded JSON.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
+     */
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull InputStream json, @Nullable Option... options) {
+        try { return parse(json, options); }
+        catch (IOException e) { throw new RuntimeException(e); }
     }
 
     /**
-     * Parse the JSON
-     * @return a JsonValue
-     * @throws JsonParseException if there is a problem parsing
+     * Parse JSON from a Reader.
+     * @param json the JSON
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
      */
     @NonNull
-    public JsonValue parse() throws JsonParseException {
-        char c = peekToken();
-        if (c == 0) {
-            return JsonValue.NULL;
-        }
-        return nextValue();
+    public static JsonValue parseUnchecked(@NonNull Reader json) {
+        try { return parse(json); }
+        catch (IOException e) { throw new RuntimeException(e); }
     }
 
-    private JsonValue nextValue() throws JsonParseException {
-        char c = peekToken();
-        if (c == 0) {
-            throw new JsonParseException("Unexpected end of data.");
-        }
-        if (c == '"') {
-            nextToken();
-            return new JsonValue(nextString());
-        }
-        if (c == '{') {
-            nextToken();
-            return new JsonValue(nextObject());
-        }
-        if (c == '[') {
-            nextToken();
-            return new JsonValue(nextArray());
-        }
-        return nextPrimitiveValue();
+    /**
+     * Parse JSON from a Reader.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
+     */
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull Reader json, @Nullable Option... options) {
+        try { return parse(json, options); }
+        catch (IOException e) { throw new RuntimeException(e); }
     }
 
-    private List<JsonValue> nextArray() throws JsonParseException {
-        List<JsonValue> list = new ArrayList<>(8);
-        char p = peekToken();
-        while (p != ']') {
-            if (p == ',') {
-                nextToken(); // advance past the peek
-            }
-            else {
-                list.add(nextValue());
-            }
-            p = peekToken();
-        }
-        nextToken(); // advance past the peek
-        return list;
+    /**
+     * Parse JSON from a blocking ReadableByteChannel of UTF-8 encoded JSON.
+     * @param json the JSON
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
+     */
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull ReadableByteChannel json) {
+        try { return parse(json); }
+        catch (IOException e) { throw new RuntimeException(e); }
     }
 
-    private JsonValue nextPrimitiveValue() throws JsonParseException {
-        workBuffer.setLength(0);
-        char c = peekToken();
-        while (c >= ' ' && isNotDelimiter(c)) {
-            workBuffer.append(nextToken());
-            c = peekToken();
-        }
-        String string = workBuffer.toString();
-        if (string.length() == 4) {
-            if ("true".equals(string)) {
+    /**
+     * Parse JSON from a blocking ReadableByteChannel of UTF-8 encoded JSON.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
+     */
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull ReadableByteChannel json, @Nullable Option... options) {
+        try { return parse(json, options); }
+        catch (IOException e) { throw new RuntimeException(e); }
+    }
+
+    /**
+     * Parse JSON from a memory mapped file of UTF-8 encoded JSON.
+     * @param json the path of the file
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
+     */
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull Path json) {
+        try { return parse(json); }
+        catch (IOException e) { throw new RuntimeException(e); }
+    }
+
+    /**
+     * Parse JSON from a memory mapped file of UTF-8 encoded JSON.
+     * @param json the path of the file
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws RuntimeException if there is a problem parsing or reading
+     */
+    @NonNull
+    public static JsonValue parseUnchecked(@NonNull Path json, @Nullable Option... options) {
+        try { return parse(json, options); }
+        catch (IOException e) { throw new RuntimeException(e); }
+    }
+
+    private JsonInput input;
+    private boolean keepNulls;
+    private JsonStringCache keyCache;
+    private JsonStringCache valueCache;
+    private boolean lazy;
+    private boolean parallel;
+    private boolean stringViews;
+    private ByteBuffer buffer;
+    private int bufferIndexOffset;
+
+    /**
+     * Create a new JsonParse object from a char array
+     * @param json the JSON
+     */
+    public JsonParser(char @Nullable [] json) {
+        this(json, 0);
+    }
+
+    /**
+     * Create a new JsonParse object from a char array
+     * @param json the JSON
+     * @param options options for how to parse
+     */
+    public JsonParser(char @Nullable [] json, @Nullable Option... options) {
+        this(json, 0, options);
+    }
+
+    /**
+     * Create a new JsonParse object from a char array
+     * @param json the JSON
+     * @param startIndex the starting index in the array
+     * @param options options for how to parse
+     */
+    public JsonParser(char @Nullable [] json, int startIndex, @Nullable Option... options) {
+        this(toInput(json, startIndex), options);
+    }
+
+    /**
+     * Create a new JsonParse object that reads directly from a CharSequence such as a String, without copying it
+     * @param json the JSON
+     */
+    public JsonParser(@Nullable CharSequence json) {
+        this(json, 0);
+    }
+
+    /**
+     * Create a new JsonParse object that reads directly from a CharSequence such as a String, without copying it
+     * @param json the JSON
+     * @param options options for how to parse
+     */
+    public JsonParser(@Nullable CharSequence json, @Nullable Option... options) {
+        this(json, 0, options);
+    }
+
+    /**
+     * Create a new JsonParse object that reads directly from a CharSequence such as a String, without copying it
+     * @param json the JSON
+     * @param startIndex the starting index in the sequence
+     * @param options options for how to parse
+     */
+    public JsonParser(@Nullable CharSequence json, int startIndex, @Nullable Option... options) {
+        this(toInput(json, startIndex), options);
+    }
+
+    /**
+     * Create a new JsonParse object from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     */
+    public JsonParser(byte @Nullable [] json) {
+        this(json, 0);
+    }
+
+    /**
+     * Create a new JsonParse object from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @param options options for how to parse
+     */
+    public JsonParser(byte @Nullable [] json, @Nullable Option... options) {
+        this(json, 0, options);
+    }
+
+    /**
+     * Create a new JsonParse object from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @param startIndex the starting index in the array
+     * @param options options for how to parse
+     */
+    public JsonParser(byte @Nullable [] json, int startIndex, @Nullable Option... options) {
+        this(toInput(json, startIndex), options);
+    }
+
+    /**
+     * Create a new JsonParse object from the UTF-8 encoded bytes in a ByteBuffer,
+     * reading from its position to its limit. The buffer may be direct; the bytes are not copied.
+     * @param json the JSON
+     */
+    public JsonParser(@Nullable ByteBuffer json) {
+        this(json, (Option[])null);
+    }
+
+    /**
+     * Create a new JsonParse object from the UTF-8 encoded bytes in a ByteBuffer,
+     * reading from its position to its limit. The buffer may be direct; the bytes are not copied.
+     * When {@link #parse()} succeeds, the buffer's position is left at the end of the consumed document.
+     * @param json the JSON
+     * @param options options for how to parse
+     */
+    public JsonParser(@Nullable ByteBuffer json, @Nullable Option... options) {
+        this(toInput(json), options);
+        setBuffer(json);
+    }
+
+    JsonParser(@NonNull JsonInput input, @Nullable Option... options) {
+        setInput(input, options);
+    }
+
+    /**
+     * Reset this parser to parse a char array, keeping its internal buffers.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(char @Nullable [] json, @Nullable Option... options) {
+        return reset(json, 0, options);
+    }
+
+    /**
+     * Reset this parser to parse a char array, keeping its internal buffers.
+     * @param json the JSON
+     * @param startIndex the starting index in the array
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(char @Nullable [] json, int startIndex, @Nullable Option... options) {
+        return setInput(toInput(json, startIndex), options);
+    }
+
+    /**
+     * Reset this parser to parse a CharSequence such as a String, keeping its internal buffers.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(@Nullable CharSequence json, @Nullable Option... options) {
+        return reset(json, 0, options);
+    }
+
+    /**
+     * Reset this parser to parse a CharSequence such as a String, keeping its internal buffers.
+     * @param json the JSON
+     * @param startIndex the starting index in the sequence
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(@Nullable CharSequence json, int startIndex, @Nullable Option... options) {
+        return setInput(toInput(json, startIndex), options);
+    }
+
+    /**
+     * Reset this parser to parse a byte array of UTF-8 encoded JSON, keeping its internal buffers.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(byte @Nullable [] json, @Nullable Option... options) {
+        return reset(json, 0, options);
+    }
+
+    /**
+     * Reset this parser to parse a byte array of UTF-8 encoded JSON, keeping its internal buffers.
+     * @param json the JSON
+     * @param startIndex the starting index in the array
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(byte @Nullable [] json, int startIndex, @Nullable Option... options) {
+        return setInput(toInput(json, startIndex), options);
+    }
+
+    /**
+     * Reset this parser to parse the UTF-8 encoded bytes in a ByteBuffer, keeping its internal buffers.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser reset(@Nullable ByteBuffer json, @Nullable Option... options) {
+        setInput(toInput(json), options);
+        setBuffer(json);
+        return this;
+    }
+
+    /**
+     * Set the maximum nesting depth of objects and arrays. A document nested deeper
+     * fails as soon as the container past the limit is reached. The default is {@value #DEFAULT_MAX_DEPTH}.
+     * The setting is kept when the parser is reset.
+     * @param maxDepth the maximum depth, at least 1
+     * @return this parser
+     */
+    @NonNull
+    public JsonParser setMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth must be at least 1.");
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * The maximum nesting depth of objects and arrays
+     * @return the maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    private JsonParser setInput(@NonNull JsonInput input, @Nullable Option... options) {
+        this.input = input;
+        depth = 0;
+        keepNulls = hasOption(options, Option.KEEP_NULLS);
+        keyCache = hasOption(options, Option.CACHE_KEYS) ? JsonStringCache.defaultKeyCache() : null;
+        valueCache = hasOption(options, Option.CACHE_VALUES) ? JsonStringCache.defaultValueCache() : null;
+        lazy = hasOption(options, Option.LAZY);
+        parallel = hasOption(options, Option.PARALLEL);
+        stringViews = hasOption(options, Option.STRING_VIEWS);
+        buffer = null;
+        return this;
+    }
+
+    private void setBuffer(@Nullable ByteBuffer json) {
+        if (json != null) {
+            buffer = json;
+            bufferIndexOffset = json.hasArray() ? json.arrayOffset() : 0;
+        }
+    }
+
+    // release references to the last input and any oversized scratch space so a pooled parser holds on to little
+    void recycle() {
+        setInput(EMPTY_INPUT);
+        for (Frame frame : frames) {
+            if (frame != null) {
+                frame.array = null;
+                frame.object = null;
+                frame.key = null;
+            }
+        }
+        maxDepth = DEFAULT_MAX_DEPTH;
+        if (workBuffer.capacity() > MAX_RETAINED_WORK_BUFFER) {
+            workBuffer = new StringBuilder(64);
+        }
+    }
+
+    static boolean hasOption(@Nullable Option[] options, Option option) {
+        if (options != null) {
+            for (Option o : options) {
+                if (o == option) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static JsonInput toInput(char @Nullable [] json, int startIndex) {
+        return new CharArrayJsonInput(json == null ? new char[0] : json, validateStartIndex(startIndex));
+    }
+
+    private static JsonInput toInput(@Nullable CharSequence json, int startIndex) {
+        return new CharSequenceJsonInput(json == null ? "" : json, validateStartIndex(startIndex));
+    }
+
+    private static JsonInput toInput(byte @Nullable [] json, int startIndex) {
+        return new ByteArrayJsonInput(json == null ? new byte[0] : json, validateStartIndex(startIndex));
+    }
+
+    private static JsonInput toInput(@Nullable ByteBuffer json) {
+        if (json == null) {
+            return new ByteArrayJsonInput(new byte[0], 0);
+        }
+        if (json.hasArray()) {
+            int offset = json.arrayOffset();
+            return new ByteArrayJsonInput(json.array(), offset + json.position(), offset + json.limit());
+        }
+        return new ByteBufferJsonInput(json);
+    }
+
+    private static int validateStartIndex(int startIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException("Invalid start index.");
+        }
+        return startIndex;
+    }
+
+    /**
+     * Parse the JSON. Parsing stops after the first value, so when the input holds several values
+     * one after another, each call parses the next one. See {@link #hasNext()} and {@link #getNextIndex()}.
+     * @return a JsonValue, or JsonValue.NULL if there is nothing left but whitespace
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse() throws JsonParseException {
+        depth = 0;
+        char c = peekToken();
+        if (c == 0) {
+            return done(JsonValue.NULL);
+        }
+        if (c != '"' && c != '{' && c != '[') {
+            return done(nextDocumentPrimitiveValue());
+        }
+        if (lazy) {
+            JsonParser reader = duplicate();
+            if (reader != null) {
+                return done(JsonTape.parse(this, reader));
+            }
+        }
+        if (parallel) {
+            return done(nextParallelValue(ForkJoinPool.commonPool()));
+        }
+        return done(nextValue());
+    }
+
+    /**
+     * Parse the JSON, parsing the elements of a large top-level array in parallel on the pool.
+     * Arrays shorter than 64K characters or bytes, other top-level values and nested arrays
+     * are parsed sequentially, as is all JSON that comes from a stream. The lazy option is ignored.
+     * @param pool the pool to parse on
+     * @return a JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse(@NonNull ForkJoinPool pool) throws JsonParseException {
+        depth = 0;
+        if (peekToken() == 0) {
+            return done(JsonValue.NULL);
+        }
+        return done(nextParallelValue(pool));
+    }
+
+    /**
+     * Parse the JSON, giving each part of it to the handler as it is read instead of building a JsonValue.
+     * The same rules are applied as by {@link #parse()}, and like parse, only the next value is read.
+     * Nothing is given to the handler for input that is only whitespace.
+     * @param handler the handler
+     * @throws JsonParseException if there is a problem parsing, after the parts before the problem were given to the handler
+     */
+    public void parse(@NonNull JsonHandler handler) throws JsonParseException {
+        depth = 0;
+        char c = peekToken();
+        if (c == '{' || c == '[') {
+            nextToken();
+            handleContainer(c, handler);
+        }
+        else if (c == '"') {
+            nextToken();
+            handleString(handler, false);
+        }
+        else if (c != 0) {
+            gatherDocumentPrimitive();
+            handlePrimitive(handler);
+        }
+        done(JsonValue.NULL);
+    }
+
+    private JsonValue nextParallelValue(ForkJoinPool pool) throws JsonParseException {
+        if (peekToken() == '[') {
+            JsonParser template = duplicate();
+            if (template != null) {
+                nextToken();
+                return JsonValue.adoptArray(JsonArrayTask.parse(this, template, pool));
+            }
+        }
+        return nextValue();
+    }
+
+    /**
+     * Parse only the projected fields, skipping every other value without building it
+     * @param projection the key paths to keep
+     * @return the JsonValue with only the projected fields
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse(@NonNull JsonProjection projection) throws JsonParseException {
+        depth = 0;
+        JsonValue value = peekToken() == 0 ? null : nextProjectedValue(projection);
+        return done(value == null ? JsonValue.NULL : value);
+    }
+
+    /**
+     * Check that the JSON would parse, without building anything from it. The same rules are applied
+     * as by {@link #parse()}, but no JsonValue, String or collection is created, so a reused parser
+     * validates without allocating. Like parse, only the next value is read.
+     * The position of a ByteBuffer is not changed.
+     * @throws JsonParseException if the JSON would not parse, with the offset where the problem was found
+     */
+    public void validate() throws JsonParseException {
+        depth = 0;
+        try {
+            char c = peekToken();
+            if (c == '"' || c == '{' || c == '[') {
+                validateValue();
+            }
+            else if (c != 0) {
+                gatherDocumentPrimitive();
+                validatePrimitive();
+            }
+        }
+        catch (JsonParseException e) {
+            throw new JsonParseException(e.getMessage(), getNextIndex());
+        }
+    }
+
+    /**
+     * Whether there is anything but whitespace after the values parsed so far
+     * @return true if there is another value to parse
+     * @throws JsonParseException if the data cannot be read
+     */
+    public boolean hasNext() throws JsonParseException {
+        return peekToken() != 0;
+    }
+
+    /**
+     * The index just after the last value parsed, in chars for char and CharSequence input,
+     * in bytes for UTF-8 input, and the position for ByteBuffer input.
+     * Passing it as the startIndex of another parse continues with the next value.
+     * @return the index
+     */
+    public long getNextIndex() {
+        return buffer == null ? input.index() : input.index() - bufferIndexOffset;
+    }
+
+    private JsonValue done(JsonValue value) {
+        if (buffer != null) {
+            buffer.position((int) input.index() - bufferIndexOffset);
+        }
+        return value;
+    }
+
+    // returns null when the value was skipped
+    private JsonValue nextProjectedValue(JsonProjection projection) throws JsonParseException {
+        if (projection.keepsAll()) {
+            return nextValue();
+        }
+        char c = peekToken();
+        if (c == '{') {
+            nextToken();
+            checkDepth(++depth);
+            Map<String, JsonValue> map = nextProjectedObject(projection);
+            depth--;
+            return new JsonValue(map);
+        }
+        if (c == '[') {
+            nextToken();
+            checkDepth(++depth);
+            List<JsonValue> list = nextProjectedArray(projection);
+            depth--;
+            return JsonValue.adoptArray(list);
+        }
+        skipValue();
+        return null;
+    }
+
+    private List<JsonValue> nextProjectedArray(JsonProjection projection) throws JsonParseException {
+        List<JsonValue> list = new ArrayList<>(8);
+        char p = peekToken();
+        while (p != ']') {
+            if (p == ',') {
+                nextToken(); // advance past the peek
+            }
+            else {
+                JsonValue value = nextProjectedValue(projection);
+                if (value != null) {
+                    list.add(value);
+                }
+            }
+            p = peekToken();
+        }
+        nextToken(); // advance past the peek
+        return list;
+    }
+
+    // the same grammar as an object in nextContainer, but only the values of projected keys are built
+    private Map<String, JsonValue> nextProjectedObject(JsonProjection projection) throws JsonParseException {
+        Map<String, JsonValue> map = new HashMap<>(8);
+        boolean first = true;
+        while (true) {
+            char c = nextToken();
+            switch (c) {
+                case 0:
+                    throw new JsonParseException("Text must end with '}'");
+                case '}':
+                    return map;
+                case '{':
+                case '[':
+                    if (first) {
+                        throw new JsonParseException("Cannot directly nest another Object or Array.");
+                    }
+            }
+            first = false;
+            // the key is only matched in the buffer, the projection's own String is used for a kept one
+            int at = projection.indexOf(nextKeyChars());
+
+            if (nextToken() != ':') {
+                throw new JsonParseException("Expected a ':' after a key.");
+            }
+
+            if (at == -1) {
+                skipValue();
+            }
+            else {
+                JsonValue value = nextProjectedValue(projection.child(at));
+                if (value != null && (value != JsonValue.NULL || keepNulls)) {
+                    map.put(projection.key(at), value);
+                }
+            }
+
+            switch (nextToken()) {
+                case ',':
+                    if (peekToken() == '}') {
+                        return map; // dangling comma
+                    }
+                    break;
+                case '}':
+                    return map;
+                default:
+                    throw new JsonParseException("Expected a ',' or '}'.");
+            }
+        }
+    }
+
+    JsonValue nextValue() throws JsonParseException {
+        char c = peekToken();
+        if (c == '{' || c == '[') {
+            nextToken();
+            return nextContainer(c);
+        }
+        return nextScalarValue(c);
+    }
+
+    // a string, number or literal, c is the result of peekToken()
+    private JsonValue nextScalarValue(char c) throws JsonParseException {
+        if (c == 0) {
+            throw new JsonParseException("Unexpected end of data.");
+        }
+        if (c == '"') {
+            nextToken();
+            return new JsonValue(nextString());
+        }
+        return nextPrimitiveValue();
+    }
+
+    // nextContainer() assumes you have already seen the starting { or [ and reads the whole object or array.
+    // Nested objects and arrays are kept on an explicit stack instead of recursing, so the nesting is only limited
+    // by the max depth. The grammar, including its leniencies, is exactly that of the former recursive methods:
+    // array elements may have any number of commas around them, an object's first member cannot start with { or [,
+    // and a comma before an object's } ends it without reading the }.
+    JsonValue nextContainer(char open) throws JsonParseException {
+        int top = -1; // the index of the innermost saved container
+        List<JsonValue> array = null;
+        Map<String, JsonValue> object = null;
+        String key = null; // the key of the object member being read
+        boolean first = false; // at the first token of an object that was just opened
+        JsonValue value;
+        while (true) {
+            if (open != 0) {
+                if (array != null || object != null) {
+                    top = save(top, array, object, key);
+                }
+                checkDepth(depth + top + 2);
+                if (open == '[') {
+                    array = new ArrayList<>(8);
+                    object = null;
+                }
+                else {
+                    object = new HashMap<>(8);
+                    array = null;
+                    first = true;
+                }
+                open = 0;
+            }
+
+            // read entries until the container ends or a nested container opens
+            if (array != null) {
+                char p = peekToken();
+                while (p != ']') {
+                    if (p == ',') {
+                        nextToken(); // advance past the peek
+                    }
+                    else if (p == '{' || p == '[') {
+                        open = nextToken();
+                        break;
+                    }
+                    else {
+                        array.add(nextScalarValue(p));
+                    }
+                    p = peekToken();
+                }
+                if (open != 0) {
+                    continue;
+                }
+                nextToken(); // advance past the peek
+                value = JsonValue.adoptArray(array);
+            }
+            else {
+                while (true) {
+                    char c = nextToken();
+                    switch (c) {
+                        case 0:
+                            throw new JsonParseException("Text must end with '}'");
+                        case '{':
+                        case '[':
+                            if (first) {
+                                throw new JsonParseException("Cannot directly nest another Object or Array.");
+                            }
+                    }
+                    if (c == '}') {
+                        break;
+                    }
+                    first = false;
+                    key = nextKey();
+                    if (nextToken() != ':') {
+                        throw new JsonParseException("Expected a ':' after a key.");
+                    }
+                    char p = peekToken();
+                    if (p == '{' || p == '[') {
+                        open = nextToken();
+                        break;
+                    }
+                    JsonValue v = nextScalarValue(p);
+                    if (v != JsonValue.NULL || keepNulls) {
+                        object.put(key, v);
+                    }
+                    if (endOfMembers()) {
+                        break;
+                    }
+                }
+                if (open != 0) {
+                    continue;
+                }
+                value = new JsonValue(object);
+            }
+
+            // add the finished container to the one it is in, which may finish that one as well
+            while (true) {
+                if (top < 0) {
+                    return value;
+                }
+                Frame parent = frames[top--];
+                array = parent.array;
+                object = parent.object;
+                key = parent.key;
+                parent.array = null;
+                parent.object = null;
+                parent.key = null;
+                if (array != null) {
+                    array.add(value);
+                    break;
+                }
+                object.put(key, value);
+                if (!endOfMembers()) {
+                    break;
+                }
+                value = new JsonValue(object);
+            }
+            first = false;
+        }
+    }
+
+    // save an open container and the key of its member being read, if it is an object
+    private int save(int top, List<JsonValue> array, Map<String, JsonValue> object, String key) {
+        if (++top == frames.length) {
+            frames = Arrays.copyOf(frames, top * 2);
+        }
+        Frame frame = frames[top];
+        if (frame == null) {
+            frame = new Frame();
+            frames[top] = frame;
+        }
+        frame.array = array;
+        frame.object = object;
+        frame.key = key;
+        return top;
+    }
+
+    // after an object member, true if the object ends, a comma before the } ends it without reading the }
+    private boolean endOfMembers() throws JsonParseException {
+        switch (nextToken()) {
+            case ',':
+                return peekToken() == '}'; // dangling comma
+            case '}':
+                return true;
+            default:
+                throw new JsonParseException("Expected a ',' or '}'.");
+        }
+    }
+
+    // handleContainer() assumes you have already seen the starting { or [, and follows the same grammar
+    // as nextContainer, but the open containers are only tracked as being an array or not
+    private void handleContainer(char open, JsonHandler handler) throws JsonParseException {
+        int top = -1; // the index of the innermost open container
+        boolean first = false; // at the first token of an object that was just opened
+        while (true) {
+            if (open != 0) {
+                checkDepth(depth + top + 2);
+                if (++top == frameIsArray.length) {
+                    frameIsArray = Arrays.copyOf(frameIsArray, top * 2);
+                }
+                frameIsArray[top] = open == '[';
+                if (open == '[') {
+                    handler.startArray();
+                }
+                else {
+                    handler.startObject();
+                    first = true;
+                }
+                open = 0;
+            }
+
+            // read entries until the container ends or a nested container opens
+            if (frameIsArray[top]) {
+                char p = peekToken();
+                while (p != ']') {
+                    if (p == ',') {
+                        nextToken(); // advance past the peek
+                    }
+                    else if (p == '{' || p == '[') {
+                        open = nextToken();
+                        break;
+                    }
+                    else {
+                        handleScalar(p, handler);
+                    }
+                    p = peekToken();
+                }
+                if (open != 0) {
+                    continue;
+                }
+                nextToken(); // advance past the peek
+                handler.endArray();
+            }
+            else {
+                while (true) {
+                    char c = nextToken();
+                    switch (c) {
+                        case 0:
+                            throw new JsonParseException("Text must end with '}'");
+                        case '{':
+                        case '[':
+                            if (first) {
+                                throw new JsonParseException("Cannot directly nest another Object or Array.");
+                            }
+                    }
+                    if (c == '}') {
+                        break;
+                    }
+                    first = false;
+                    handleString(handler, true);
+                    if (nextToken() != ':') {
+                        throw new JsonParseException("Expected a ':' after a key.");
+                    }
+                    char p = peekToken();
+                    if (p == '{' || p == '[') {
+                        open = nextToken();
+                        break;
+                    }
+                    handleScalar(p, handler);
+                    if (endOfMembers()) {
+                        break;
+                    }
+                }
+                if (open != 0) {
+                    continue;
+                }
+                handler.endObject();
+            }
+
+            // the container on top is finished, which may finish the objects it is in as well
+            while (--top >= 0 && !frameIsArray[top] && endOfMembers()) {
+                handler.endObject();
+            }
+            if (top < 0) {
+                return;
+            }
+            first = false;
+        }
+    }
+
+    private void handleScalar(char c, JsonHandler handler) throws JsonParseException {
+        if (c == 0) {
+            throw new JsonParseException("Unexpected end of data.");
+        }
+        if (c == '"') {
+            nextToken();
+            handleString(handler, false);
+        }
+        else {
+            gatherPrimitive();
+            handlePrimitive(handler);
+        }
+    }
+
+    // handleString() assumes you have already seen the starting quote
+    private void handleString(JsonHandler handler, boolean key) throws JsonParseException {
+        CharSequence s;
+        if (stringViews) {
+            workBuffer.setLength(0);
+            char c = nextChar();
+            while (c != '"') {
+                switch (c) {
+                    case 0:
+                    case '\n':
+                    case '\r':
+                        throw new JsonParseException("Unterminated string.");
+                    case '\\':
+                        workBuffer.append(nextEscape());
+                        break;
+                    default:
+                        workBuffer.append(c);
+                }
+                c = nextChar();
+            }
+            s = workBuffer;
+        }
+        else {
+            s = key ? nextKey() : nextString();
+        }
+        if (key) {
+            handler.key(s);
+        }
+        else {
+            handler.stringValue(s);
+        }
+    }
+
+    // the same values as primitiveValue, only numbers that are not a long are built
+    private void handlePrimitive(JsonHandler handler) throws JsonParseException {
+        int len = workBuffer.length();
+        if (len == 4 && "true".contentEquals(workBuffer)) {
+            handler.boolValue(true);
+        }
+        else if (len == 4 && "null".contentEquals(workBuffer)) {
+            handler.nullValue();
+        }
+        else if (len == 5 && "false".contentEquals(workBuffer)) {
+            handler.boolValue(false);
+        }
+        else if (number.isLong()) {
+            handler.longValue(number.longValue());
+        }
+        else {
+            JsonValue v = primitiveValue(workBuffer, number);
+            switch (v.type) {
+                case INTEGER:
+                case LONG:
+                    handler.longValue(v.number.longValue());
+                    break;
+                case DOUBLE:
+                case FLOAT:
+                    handler.doubleValue(v.number.doubleValue());
+                    break;
+                default:
+                    handler.bigValue(v.number);
+            }
+        }
+    }
+
+    // the number of containers around the values read by this parser, when it reads from inside a document
+    void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    void checkDepth(int depth) throws JsonParseException {
+        if (depth > maxDepth) {
+            throw new JsonParseException("Maximum nesting depth of " + maxDepth + " exceeded.");
+        }
+    }
+
+    JsonValue nextPrimitiveValue() throws JsonParseException {
+        gatherPrimitive();
+        return primitiveValue(workBuffer, number);
+    }
+
+    private void gatherPrimitive() throws JsonParseException {
+        workBuffer.setLength(0);
+        number.reset();
+        char c = peekToken();
+        while (c >= ' ' && isNotDelimiter(c)) {
+            c = nextToken();
+            workBuffer.append(c);
+            number.accept(c);
+            c = peekToken();
+        }
+    }
+
+    // a top-level number or literal ends at whitespace, like every other top-level value,
+    // so a document that follows it is not read as part of it
+    private JsonValue nextDocumentPrimitiveValue() throws JsonParseException {
+        gatherDocumentPrimitive();
+        return primitiveValue(workBuffer, number);
+    }
+
+    private void gatherDocumentPrimitive() throws JsonParseException {
+        workBuffer.setLength(0);
+        number.reset();
+        char c = peekToken();
+        while (c >= ' ' && isNotDelimiter(c)) {
+            c = nextToken();
+            workBuffer.append(c);
+            number.accept(c);
+            long at = input.index();
+            c = peekToken();
+            if (input.index() != at) {
+                break;
+            }
+        }
+    }
+
+    // the number has been given the same characters as the text, and only
+    // when it can't provide the value is the text turned into a String
+    static JsonValue primitiveValue(CharSequence text, NumberAccumulator number) throws JsonParseException {
+        if (text.length() == 4) {
+            if ("true".contentEquals(text)) {
                 return JsonValue.TRUE;
             }
-            if ("null".equals(string)) {
+            if ("null".contentEquals(text)) {
                 return JsonValue.NULL;
             }
         }
-        else if (string.length() == 5) {
-            if ("false".equals(string)) {
+        else if (text.length() == 5) {
+            if ("false".contentEquals(text)) {
                 return JsonValue.FALSE;
             }
         }
-        return asNumber(string);
+        JsonValue value = number.value();
+        return value == null ? asNumber(text.toString()) : value;
     }
 
-    // next object assumes you have already seen the starting {
-    private Map<String, JsonValue> nextObject() throws JsonParseException {
-        Map<String, JsonValue> map = new HashMap<>(8);
-        String key;
+    // the validate methods follow the same grammar as nextValue, nextContainer and nextString
+    private void validateValue() throws JsonParseException {
+        char c = peekToken();
+        if (c == '{' || c == '[') {
+            validateContainer(nextToken());
+        }
+        else {
+            validateScalar(c);
+        }
+    }
+
+    private void validateScalar(char c) throws JsonParseException {
+        if (c == 0) {
+            throw new JsonParseException("Unexpected end of data.");
+        }
+        if (c == '"') {
+            nextToken();
+            validateString();
+        }
+        else {
+            gatherPrimitive();
+            validatePrimitive();
+        }
+    }
+
+    // validateContainer() assumes you have already seen the starting { or [, and like handleContainer
+    // only tracks whether each open container is an array, so it does not recurse either
+    private void validateContainer(char open) throws JsonParseException {
+        int top = -1; // the index of the innermost open container
+        boolean first = false; // at the first token of an object that was just opened
         while (true) {
-            char c = nextToken();
-            switch (c) {
-                case 0:
-                    throw new JsonParseException("Text must end with '}'");
-                case '}':
-                    return map;
-                case '{':
-                case '[':
-                    if (previous == '{') {
-                        throw new JsonParseException("Cannot directly nest another Object or Array.");
-                    }
-                    // fall through
-                default:
-                    key = nextString();
+            if (open != 0) {
+                checkDepth(depth + top + 2);
+                if (++top == frameIsArray.length) {
+                    frameIsArray = Arrays.copyOf(frameIsArray, top * 2);
+                }
+                frameIsArray[top] = open == '[';
+                first = open == '{';
+                open = 0;
             }
 
-            c = nextToken();
-            if (c != ':') {
-                throw new JsonParseException("Expected a ':' after a key.");
+            // read entries until the container ends or a nested container opens
+            if (frameIsArray[top]) {
+                char p = peekToken();
+                while (p != ']') {
+                    if (p == ',') {
+                        nextToken(); // advance past the peek
+                    }
+                    else if (p == '{' || p == '[') {
+                        open = nextToken();
+                        break;
+                    }
+                    else {
+                        validateScalar(p);
+                    }
+                    p = peekToken();
+                }
+                if (open != 0) {
+                    continue;
+                }
+                nextToken(); // advance past the peek
+            }
+            else {
+                while (true) {
+                    char c = nextToken();
+                    switch (c) {
+                        case 0:
+                            throw new JsonParseException("Text must end with '}'");
+                        case '{':
+                        case '[':
+                            if (first) {
+                                throw new JsonParseException("Cannot directly nest another Object or Array.");
+                            }
+                    }
+                    if (c == '}') {
+                        break;
+                    }
+                    first = false;
+                    validateString();
+                    if (nextToken() != ':') {
+                        throw new JsonParseException("Expected a ':' after a key.");
+                    }
+                    char p = peekToken();
+                    if (p == '{' || p == '[') {
+                        open = nextToken();
+                        break;
+                    }
+                    validateScalar(p);
+                    if (endOfMembers()) {
+                        break;
+                    }
+                }
+                if (open != 0) {
+                    continue;
+                }
             }
 
-            JsonValue value = nextValue();
-            if (value != JsonValue.NULL || keepNulls) {
-                map.put(key, value);
+            // the container on top is finished, which may finish the objects it is in as well
+            top--;
+            while (top >= 0 && !frameIsArray[top] && endOfMembers()) {
+                top--;
             }
+            if (top < 0) {
+                return;
+            }
+            first = false;
+        }
+    }
 
-            switch (nextToken()) {
-                case ',':
-                    if (peekToken() == '}') {
-                        return map; // dangling comma
-                    }
+    // validateString() assumes you have already seen the starting quote
+    private void validateString() throws JsonParseException {
+        while (true) {
+            switch (nextChar()) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw new JsonParseException("Unterminated string.");
+                case '\\':
+                    nextEscape();
                     break;
-                case '}':
-                    return map;
-                default:
-                    throw new JsonParseException("Expected a ',' or '}'.");
+                case '"':
+                    return;
             }
         }
     }
 
-    private char nextToken() {
-        peekToken();
-        idx = nextIdx;
-        nextIdx = -1;
-        previous = current;
-        current = next;
-        next = 0;
-        return current;
+    // the same checks as primitiveValue, only text that the number cannot handle becomes a String
+    private void validatePrimitive() throws JsonParseException {
+        int len = workBuffer.length();
+        if ((len == 4 && ("true".contentEquals(workBuffer) || "null".contentEquals(workBuffer)))
+            || (len == 5 && "false".contentEquals(workBuffer))
+            || number.hasValue()) {
+            return;
+        }
+        asNumber(workBuffer.toString());
     }
 
-    private char nextChar() {
-        previous = current;
-        if (idx == len) {
-            current = 0;
-        }
-        else {
-            current = json[idx++];
+    char nextToken() throws JsonParseException {
+        return input.nextToken();
+    }
+
+    char nextChar() throws JsonParseException {
+        return input.nextChar();
+    }
+
+    char peekToken() throws JsonParseException {
+        return input.peekToken();
+    }
+
+    // a parser over the same data with the same options, or null if the data cannot be read again
+    JsonParser duplicate() {
+        JsonInput dup = input.duplicate();
+        if (dup == null) {
+            return null;
         }
-        next = 0;
-        nextIdx = -1;
-        return current;
+        JsonParser parser = new JsonParser(dup);
+        parser.keepNulls = keepNulls;
+        parser.keyCache = keyCache;
+        parser.valueCache = valueCache;
+        parser.maxDepth = maxDepth;
+        return parser;
     }
 
-    private char peekToken() {
-        if (nextIdx == -1) {
-            nextIdx = idx;
-            next = 0;
-            while (nextIdx < len) {
-                char c = json[nextIdx++];
-                switch (c) {
-                    case ' ':
-                    case '\r':
-                    case '\n':
-                    case '\t':
-                        continue;
-                }
-                return next = c;
+    // only used with input that can be duplicated and seeked, which an int always indexes
+    int index() {
+        return (int) input.index();
+    }
+
+    void seek(int index) {
+        input.seek(index);
+    }
+
+    int remaining() {
+        return input.remaining();
+    }
+
+    boolean keepNulls() {
+        return keepNulls;
+    }
+
+    // nextKey() assumes you have already seen the starting quote
+    String nextKey() throws JsonParseException {
+        return nextString(keyCache);
+    }
+
+    // nextKeyChars() assumes you have already seen the starting quote, it reads the key
+    // into the work buffer without making a String, the buffer is valid until the next read
+    CharSequence nextKeyChars() throws JsonParseException {
+        workBuffer.setLength(0);
+        while (true) {
+            char c = nextChar();
+            switch (c) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw new JsonParseException("Unterminated string.");
+                case '\\':
+                    workBuffer.append(nextEscape());
+                    break;
+                case '"':
+                    return workBuffer;
+                default:
+                    workBuffer.append(c);
             }
         }
-        return next;
+    }
+
+    // a key read by nextKeyChars() as a String, from the key cache if there is one
+    String keyString(CharSequence chars) {
+        return keyCache == null ? chars.toString() : keyCache.get(chars, 0, chars.length());
     }
 
     // nextString() assumes you have already seen the starting quote
-    private String nextString() throws JsonParseException {
+    String nextString() throws JsonParseException {
+        return nextString(valueCache);
+    }
+
+    private String nextString(@Nullable JsonStringCache cache) throws JsonParseException {
         workBuffer.setLength(0);
+        String s = input.nextUnescapedString(workBuffer, cache);
+        if (s != null) {
+            return s;
+        }
         while (true) {
             char c = nextChar();
             switch (c) {
@@ -580,46 +1965,194 @@ public class JsonParser {
                 case '\r':
                     throw new JsonParseException("Unterminated string.");
                 case '\\':
-                    c = nextChar();
-                    switch (c) {
-                        case 'b':
-                            workBuffer.append('\b');
-                            break;
-                        case 't':
-                            workBuffer.append('\t');
-                            break;
-                        case 'n':
-                            workBuffer.append('\n');
-                            break;
-                        case 'f':
-                            workBuffer.append('\f');
-                            break;
-                        case 'r':
-                            workBuffer.append('\r');
-                            break;
-                        case 'u':
-                            workBuffer.append(parseU());
-                            break;
-                        case '"':
-                        case '\'':
-                        case '\\':
-                        case '/':
-                            workBuffer.append(c);
-                            break;
-                        default:
-                            throw new JsonParseException("Illegal escape.");
-                    }
+                    workBuffer.append(nextEscape());
                     break;
                 default:
                     if (c == '"') {
-                        return workBuffer.toString();
+                        return cache == null ? workBuffer.toString() : cache.get(workBuffer, 0, workBuffer.length());
                     }
                     workBuffer.append(c);
             }
         }
     }
 
-    private char[] parseU() throws JsonParseException {
+    // nextStringEquals() assumes you have already seen the starting quote,
+    // it reads the whole string and compares it as it goes, without building it
+    boolean nextStringEquals(String target) throws JsonParseException {
+        int len = target.length();
+        int i = 0;
+        boolean equal = true;
+        while (true) {
+            char c = nextChar();
+            switch (c) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw new JsonParseException("Unterminated string.");
+                case '\\':
+                    c = nextEscape();
+                    break;
+                case '"':
+                    return equal && i == len;
+            }
+            if (equal) {
+                equal = i < len && target.charAt(i) == c;
+                i++;
+            }
+        }
+    }
+
+    // nextEscape() assumes you have already seen the backslash
+    private char nextEscape() throws JsonParseException {
+        char c = nextChar();
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'f':
+                return '\f';
+            case 'r':
+                return '\r';
+            case 'u':
+                return parseU();
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                return c;
+            default:
+                throw new JsonParseException("Illegal escape.");
+        }
+    }
+
+    // skipString() assumes you have already seen the starting quote
+    void skipString() throws JsonParseException {
+        while (true) {
+            switch (nextChar()) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw new JsonParseException("Unterminated string.");
+                case '\\':
+                    nextChar();
+                    break;
+                case '"':
+                    return;
+            }
+        }
+    }
+
+    // skipValue() skips the next value without building it, it does not validate what it skips
+    void skipValue() throws JsonParseException {
+        char c = peekToken();
+        switch (c) {
+            case 0:
+                throw new JsonParseException("Unexpected end of data.");
+            case '"':
+                nextToken();
+                skipString();
+                return;
+            case '{':
+            case '[':
+                nextToken();
+                skipContainer();
+                return;
+        }
+        if (c < ' ' || !isNotDelimiter(c)) {
+            throw new JsonParseException(); // a character that cannot start any value
+        }
+        skipPrimitiveValue();
+    }
+
+    // seekKey() assumes you have already seen the starting {, it skips members until it reads the key
+    // and returns true with its value next, or returns false after the end of the object
+    boolean seekKey(String key) throws JsonParseException {
+        while (true) {
+            switch (nextToken()) {
+                case 0:
+                    throw new JsonParseException("Text must end with '}'");
+                case '}':
+                    return false;
+            }
+            boolean found = nextStringEquals(key);
+            if (nextToken() != ':') {
+                throw new JsonParseException("Expected a ':' after a key.");
+            }
+            if (found) {
+                return true;
+            }
+            skipValue();
+            switch (nextToken()) {
+                case ',':
+                    if (peekToken() == '}') {
+                        nextToken();
+                        return false; // dangling comma
+                    }
+                    break;
+                case '}':
+                    return false;
+                default:
+                    throw new JsonParseException("Expected a ',' or '}'.");
+            }
+        }
+    }
+
+    // seekIndex() assumes you have already seen the starting [, it skips elements until the index
+    // and returns true with that element next, or returns false after the end of the array
+    boolean seekIndex(int index) throws JsonParseException {
+        int i = 0;
+        char p = peekToken();
+        while (p != ']') {
+            if (p == ',') {
+                nextToken(); // advance past the peek
+            }
+            else if (i++ == index) {
+                return true;
+            }
+            else {
+                skipValue();
+            }
+            p = peekToken();
+        }
+        nextToken(); // advance past the peek
+        return false;
+    }
+
+    void skipPrimitiveValue() throws JsonParseException {
+        char c = peekToken();
+        while (c >= ' ' && isNotDelimiter(c)) {
+            nextToken();
+            c = peekToken();
+        }
+    }
+
+    // skipContainer() assumes you have already seen the starting { or [
+    // and only matches braces and brackets, it does not validate what it skips
+    void skipContainer() throws JsonParseException {
+        int depth = 1;
+        while (depth > 0) {
+            switch (nextToken()) {
+                case 0:
+                    throw new JsonParseException("Unexpected end of data.");
+                case '"':
+                    skipString();
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    break;
+            }
+        }
+    }
+
+    private char parseU() throws JsonParseException {
         int code = 0;
         for (int i = 0; i < 4; i++) {
             char c = nextToken();
@@ -633,10 +2166,13 @@ public class JsonParser {
 
             code = (code << 4) | digit;
         }
-        return Character.toChars(code);
+        return (char)code; // four hex digits are always a single char
     }
 
-    private JsonValue asNumber(String val) throws JsonParseException {
+    private static JsonValue asNumber(String val) throws JsonParseException {
+        if (val.isEmpty()) {
+            throw new JsonParseException(); // a character that cannot start any value
+        }
         char initial = val.charAt(0);
         if ((initial >= '0' && initial <= '9') || initial == '-') {
 
@@ -703,16 +2239,7 @@ public class JsonParser {
             || val.indexOf('E') > -1 || "-0".equals(val);
     }
 
-    private boolean isNotDelimiter(char c) {
+    static boolean isNotDelimiter(char c) {
         return c < 128 && !IS_DELIMITER[c];
     }
-
-    private static char[] bytesToChars(byte[] json) throws JsonParseException {
-        try {
-            return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(json)).array();
-        }
-        catch (CharacterCodingException e) {
-            throw new JsonParseException(e);
-        }
-    }
 }
@@ -0,0 +1,200 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.nats.json.JsonParser.Option;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of reusable {@link JsonParser} instances.
+ * Parsers are held in a fixed number of slots that are claimed and returned with compare-and-set,
+ * so the pool is safe to share between threads, never blocks, and does not rely on ThreadLocal,
+ * which keeps it friendly to large numbers of short-lived or virtual threads.
+ * When every slot is empty a new parser is created, and when every slot is full a released parser is dropped.
+ */
+public class JsonParserPool {
+
+    /**
+     * The default number of parsers a pool will hold
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static final JsonParserPool DEFAULT = new JsonParserPool(DEFAULT_CAPACITY);
+
+    private final AtomicReferenceArray<JsonParser> slots;
+
+    /**
+     * Construct a pool with the default capacity
+     */
+    public JsonParserPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a pool that holds up to capacity idle parsers
+     * @param capacity the maximum number of idle parsers kept
+     */
+    public JsonParserPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Get a shared pool with the default capacity
+     * @return the shared pool
+     */
+    @NonNull
+    public static JsonParserPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Take a parser from the pool, or create one if none is idle.
+     * Reset the parser to the input before using it, and release it when done.
+     * @return a parser
+     */
+    @NonNull
+    public JsonParser acquire() {
+        int len = slots.length();
+        int start = startSlot(len);
+        for (int x = 0; x < len; x++) {
+            int i = (start + x) % len;
+            JsonParser parser = slots.get(i);
+            if (parser != null && slots.compareAndSet(i, parser, null)) {
+                return parser;
+            }
+        }
+        return new JsonParser((char[])null);
+    }
+
+    /**
+     * Return a parser to the pool. The parser must not be used again by the caller.
+     * @param parser the parser
+     */
+    public void release(@Nullable JsonParser parser) {
+        if (parser == null) {
+            return;
+        }
+        parser.recycle();
+        int len = slots.length();
+        int start = startSlot(len);
+        for (int x = 0; x < len; x++) {
+            int i = (start + x) % len;
+            if (slots.get(i) == null && slots.compareAndSet(i, null, parser)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the number of idle parsers currently held by the pool
+     * @return the count
+     */
+    public int idleCount() {
+        int count = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Parse JSON from a char array with a pooled parser
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse(char @Nullable [] json, @Nullable Option... options) throws JsonParseException {
+        JsonParser parser = acquire();
+        try {
+            return parser.reset(json, options).parse();
+        }
+        finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Parse JSON from a CharSequence such as a String with a pooled parser
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse(@Nullable CharSequence json, @Nullable Option... options) throws JsonParseException {
+        JsonParser parser = acquire();
+        try {
+            return parser.reset(json, options).parse();
+        }
+        finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Parse UTF-8 encoded JSON from a byte array with a pooled parser
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse(byte @Nullable [] json, @Nullable Option... options) throws JsonParseException {
+        JsonParser parser = acquire();
+        try {
+            return parser.reset(json, options).parse();
+        }
+        finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Parse UTF-8 encoded JSON from a ByteBuffer with a pooled parser.
+     * The buffer's position is advanced past the parsed value.
+     * @param json the JSON
+     * @param options options for how to parse
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @NonNull
+    public JsonValue parse(@Nullable ByteBuffer json, @Nullable Option... options) throws JsonParseException {
+        JsonParser parser = acquire();
+        try {
+            return parser.reset(json, options).parse();
+        }
+        finally {
+            release(parser);
+        }
+    }
+
+    // spread threads over the slots so they don't all contend on the first one,
+    // the identity hash is spread well for platform and virtual threads alike
+    private static int startSlot(int len) {
+        int h = System.identityHashCode(Thread.currentThread());
+        return ((h ^ (h >>> 16)) & 0x7fffffff) % len;
+    }
+}
@@ -0,0 +1,210 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A JSON Pointer (RFC 6901), such as {@code /type} or {@code /error/code}, that extracts a single value
+ * straight from the JSON input. Members and elements before the target are skipped without being built,
+ * and reading stops as soon as the target value has been read, so the rest of the document is not looked at,
+ * or validated.
+ * <p>When an object has the same key more than once, the first one is used.
+ * A JsonPointer is immutable and can be shared between threads.
+ */
+public final class JsonPointer {
+    private final String pointer;
+    private final String[] keys;
+    private final int[] indexes; // the key as an array index, or -1 if it cannot be one
+
+    private JsonPointer(String pointer, String[] keys, int[] indexes) {
+        this.pointer = pointer;
+        this.keys = keys;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Create a pointer. The empty string points to the whole document.
+     * Within a key, {@code ~1} stands for a {@code /} and {@code ~0} for a {@code ~}.
+     * @param pointer the pointer
+     * @return the JsonPointer
+     */
+    @NonNull
+    public static JsonPointer of(@NonNull String pointer) {
+        if (!pointer.isEmpty() && pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("Pointer must be empty or start with '/'.");
+        }
+        List<String> keys = new ArrayList<>();
+        int start = 1;
+        while (start <= pointer.length()) {
+            int slash = pointer.indexOf('/', start);
+            int end = slash == -1 ? pointer.length() : slash;
+            keys.add(unescape(pointer.substring(start, end)));
+            start = end + 1;
+        }
+        int[] indexes = new int[keys.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = toIndex(keys.get(i));
+        }
+        return new JsonPointer(pointer, keys.toArray(new String[0]), indexes);
+    }
+
+    private static String unescape(String key) {
+        if (key.indexOf('~') == -1) {
+            return key;
+        }
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '~') {
+                char n = ++i < key.length() ? key.charAt(i) : 0;
+                if (n == '0') {
+                    sb.append('~');
+                }
+                else if (n == '1') {
+                    sb.append('/');
+                }
+                else {
+                    throw new IllegalArgumentException("Invalid escape in pointer.");
+                }
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // array indexes are 0 or digits without a leading zero
+    private static int toIndex(String key) {
+        int len = key.length();
+        if (len == 0 || len > 9 || (len > 1 && key.charAt(0) == '0')) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < len; i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Extract the value from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @return the value, JsonValue.NULL if the value is a JSON null, or null if there is no such value
+     * @throws JsonParseException if there is a problem parsing the part of the JSON that was read
+     */
+    @Nullable
+    public JsonValue extract(byte @Nullable [] json) throws JsonParseException {
+        return extract(new JsonParser(json));
+    }
+
+    /**
+     * Extract the value from a char array
+     * @param json the JSON
+     * @return the value, JsonValue.NULL if the value is a JSON null, or null if there is no such value
+     * @throws JsonParseException if there is a problem parsing the part of the JSON that was read
+     */
+    @Nullable
+    public JsonValue extract(char @Nullable [] json) throws JsonParseException {
+        return extract(new JsonParser(json));
+    }
+
+    /**
+     * Extract the value from a CharSequence such as a String
+     * @param json the JSON
+     * @return the value, JsonValue.NULL if the value is a JSON null, or null if there is no such value
+     * @throws JsonParseException if there is a problem parsing the part of the JSON that was read
+     */
+    @Nullable
+    public JsonValue extract(@Nullable CharSequence json) throws JsonParseException {
+        return extract(new JsonParser(json));
+    }
+
+    /**
+     * Extract a string value from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @return the string, or null if there is no such value or it is not a string
+     * @throws JsonParseException if there is a problem parsing the part of the JSON that was read
+     */
+    @Nullable
+    public String readString(byte @Nullable [] json) throws JsonParseException {
+        JsonValue jv = extract(json);
+        return jv == null ? null : jv.string;
+    }
+
+    /**
+     * Extract an integer value from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @param dflt the value if there is no such value or it is not an integer
+     * @return the value or the default
+     * @throws JsonParseException if there is a problem parsing the part of the JSON that was read
+     */
+    public long readLong(byte @Nullable [] json, long dflt) throws JsonParseException {
+        JsonValue jv = extract(json);
+        return jv == null ? dflt : JsonValueUtils.getLong(jv, dflt);
+    }
+
+    /**
+     * Extract a boolean value from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @param dflt the value if there is no such value or it is not a boolean
+     * @return the value or the default
+     * @throws JsonParseException if there is a problem parsing the part of the JSON that was read
+     */
+    public boolean readBoolean(byte @Nullable [] json, boolean dflt) throws JsonParseException {
+        JsonValue jv = extract(json);
+        return jv == null || jv.bool == null ? dflt : jv.bool;
+    }
+
+    @Nullable
+    JsonValue extract(JsonParser parser) throws JsonParseException {
+        if (parser.peekToken() == 0) {
+            return null;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            char c = parser.peekToken();
+            if (c == '{') {
+                parser.nextToken();
+                if (!parser.seekKey(keys[i])) {
+                    return null;
+                }
+            }
+            else if (c == '[' && indexes[i] != -1) {
+                parser.nextToken();
+                if (!parser.seekIndex(indexes[i])) {
+                    return null;
+                }
+            }
+            else {
+                return null;
+            }
+        }
+        return parser.nextValue();
+    }
+
+    @Override
+    public String toString() {
+        return pointer;
+    }
+}
@@ -0,0 +1,155 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A set of key paths to keep when parsing, for example {@code state.messages} and {@code config.name}.
+ * Parsing with a projection builds only the projected fields and skips every other value without building it.
+ * <ul>
+ * <li>A path is the keys from the top level object down to the field, separated by dots.</li>
+ * <li>The whole value at the end of a path is kept, whatever its type.</li>
+ * <li>A path passes through arrays, so {@code cluster.replicas.name} keeps the name of every replica object.</li>
+ * <li>A value along a path that is neither an object nor an array is skipped.</li>
+ * <li>An object along a path is kept even if none of the keys below it are present, so it may be empty.</li>
+ * </ul>
+ * Skipped values are only scanned for matching quotes, braces and brackets, they are not validated.
+ */
+public final class JsonProjection {
+    // the keys whose values are kept and the projection of each, null when the whole value is kept.
+    // They are arrays rather than a map so a key can be matched while it is still in the parser's buffer.
+    private String[] keys;
+    private JsonProjection[] children;
+
+    private JsonProjection(boolean keepsAll) {
+        if (!keepsAll) {
+            keys = new String[0];
+            children = new JsonProjection[0];
+        }
+    }
+
+    /**
+     * Create a projection from dotted key paths
+     * @param paths the paths
+     * @return the projection
+     */
+    @NonNull
+    public static JsonProjection of(@NonNull String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * Create a projection from dotted key paths
+     * @param paths the paths
+     * @return the projection
+     */
+    @NonNull
+    public static JsonProjection of(@NonNull Collection<String> paths) {
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("At least one path is required.");
+        }
+        JsonProjection root = new JsonProjection(false);
+        for (String path : paths) {
+            root.add(path);
+        }
+        return root;
+    }
+
+    private void add(String path) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("Path cannot be null or empty.");
+        }
+        JsonProjection node = this;
+        int start = 0;
+        while (true) {
+            int dot = path.indexOf('.', start);
+            String key = dot == -1 ? path.substring(start) : path.substring(start, dot);
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Path cannot have an empty key: " + path);
+            }
+            if (node.keepsAll()) {
+                return; // a shorter path already keeps this whole value
+            }
+            int at = node.indexOf(key);
+            if (dot == -1) {
+                node.put(at, key, new JsonProjection(true));
+                return;
+            }
+            if (at == -1) {
+                at = node.put(at, key, new JsonProjection(false));
+            }
+            node = node.children[at];
+            start = dot + 1;
+        }
+    }
+
+    // replace the child at an index, or add it when the index is -1
+    private int put(int at, String key, JsonProjection child) {
+        if (at == -1) {
+            at = keys.length;
+            keys = Arrays.copyOf(keys, at + 1);
+            children = Arrays.copyOf(children, at + 1);
+        }
+        keys[at] = key;
+        children[at] = child;
+        return at;
+    }
+
+    /**
+     * Whether the whole value is kept
+     * @return true if this is the end of a path
+     */
+    boolean keepsAll() {
+        return children == null;
+    }
+
+    /**
+     * Find a key, comparing its characters so the key does not have to be a String
+     * @param key the key
+     * @return the index of the key, or -1 if the value of the key is skipped
+     */
+    int indexOf(CharSequence key) {
+        int len = key.length();
+        for (int i = 0; i < keys.length; i++) {
+            String k = keys[i];
+            if (k.length() == len && k.contentEquals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The key at an index
+     * @param index the index from {@link #indexOf(CharSequence)}
+     * @return the key
+     */
+    String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * The projection for the value of the key at an index
+     * @param index the index from {@link #indexOf(CharSequence)}
+     * @return the projection
+     */
+    JsonProjection child(int index) {
+        return children[index];
+    }
+}
@@ -0,0 +1,429 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.nats.json.JsonParser.Option;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * A pull parser that walks JSON one token at a time instead of building a JsonValue tree.
+ * <p>Strings, field names and numbers are only materialized when one of the getters is called
+ * for the current token. Tokens that are not asked for are skipped without allocating.</p>
+ * <pre>
+ * JsonReader reader = new JsonReader(json);
+ * while (reader.nextToken() == JsonToken.FIELD_NAME) {
+ *     if ("state".equals(reader.currentName())) { ... }
+ *     else { reader.nextToken(); reader.skipChildren(); }
+ * }
+ * </pre>
+ */
+public class JsonReader {
+    private static final byte IN_OBJECT = 1;
+    private static final byte IN_ARRAY = 2;
+
+    private final JsonParser parser;
+    private byte[] contexts = new byte[16];
+    private int depth;
+    private boolean done;
+    private JsonToken token;
+    private boolean pending; // the content of the current string, name or number has not been consumed
+    private String name;
+    private boolean namePending; // the name was kept in nameChars when moving to its value, not yet made a String
+    private final StringBuilder nameChars = new StringBuilder(16);
+    private String string;
+    private JsonValue number;
+
+    /**
+     * Create a JsonReader from a char array
+     * @param json the JSON
+     * @param options options for how to parse, used by {@link #readValue()}
+     */
+    public JsonReader(char @Nullable [] json, @Nullable Option... options) {
+        this(new JsonParser(json, options));
+    }
+
+    /**
+     * Create a JsonReader that reads directly from a CharSequence such as a String
+     * @param json the JSON
+     * @param options options for how to parse, used by {@link #readValue()}
+     */
+    public JsonReader(@Nullable CharSequence json, @Nullable Option... options) {
+        this(new JsonParser(json, options));
+    }
+
+    /**
+     * Create a JsonReader from a byte array of UTF-8 encoded JSON
+     * @param json the JSON
+     * @param options options for how to parse, used by {@link #readValue()}
+     */
+    public JsonReader(byte @Nullable [] json, @Nullable Option... options) {
+        this(new JsonParser(json, options));
+    }
+
+    /**
+     * Create a JsonReader from the UTF-8 encoded bytes in a ByteBuffer, reading from its position to its limit.
+     * The buffer's position is not changed.
+     * @param json the JSON
+     * @param options options for how to parse, used by {@link #readValue()}
+     */
+    public JsonReader(@Nullable ByteBuffer json, @Nullable Option... options) {
+        this(new JsonParser(json, options));
+    }
+
+    JsonReader(@NonNull JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Advance to the next token
+     * @return the token or null if the end of the document has been reached
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @Nullable
+    public JsonToken nextToken() throws JsonParseException {
+        if (pending) {
+            skipPending();
+        }
+        string = null;
+        number = null;
+
+        if (token == JsonToken.FIELD_NAME) {
+            if (parser.nextToken() != ':') {
+                throw new JsonParseException("Expected a ':' after a key.");
+            }
+            return startValue(); // keeps the name for the value
+        }
+        name = null;
+        namePending = false;
+
+        if (depth == 0) {
+            if (done || parser.peekToken() == 0) {
+                done = true;
+                return token = null;
+            }
+            return startValue();
+        }
+
+        if (contexts[depth - 1] == IN_OBJECT) {
+            return nextInObject();
+        }
+        return nextInArray();
+    }
+
+    private JsonToken nextInObject() throws JsonParseException {
+        char c;
+        if (token != JsonToken.START_OBJECT) {
+            c = parser.nextToken();
+            if (c == '}') {
+                return endContainer(JsonToken.END_OBJECT);
+            }
+            if (c != ',') {
+                throw new JsonParseException(c == 0 ? "Text must end with '}'" : "Expected a ',' or '}'.");
+            }
+        }
+        c = parser.nextToken();
+        switch (c) {
+            case 0:
+                throw new JsonParseException("Text must end with '}'");
+            case '}':
+                return endContainer(JsonToken.END_OBJECT); // empty or dangling comma
+            case '{':
+            case '[':
+                throw new JsonParseException("Cannot directly nest another Object or Array.");
+            case '"':
+                pending = true;
+                return token = JsonToken.FIELD_NAME;
+        }
+        throw new JsonParseException("Expected a key.");
+    }
+
+    private JsonToken nextInArray() throws JsonParseException {
+        char c = parser.peekToken();
+        while (c == ',') {
+            parser.nextToken();
+            c = parser.peekToken();
+        }
+        if (c == ']') {
+            parser.nextToken();
+            return endContainer(JsonToken.END_ARRAY);
+        }
+        return startValue();
+    }
+
+    private JsonToken startValue() throws JsonParseException {
+        char c = parser.peekToken();
+        switch (c) {
+            case 0:
+                throw new JsonParseException("Unexpected end of data.");
+            case '"':
+                parser.nextToken();
+                pending = true;
+                return valueDone(JsonToken.STRING);
+            case '{':
+                parser.nextToken();
+                push(IN_OBJECT);
+                return token = JsonToken.START_OBJECT;
+            case '[':
+                parser.nextToken();
+                push(IN_ARRAY);
+                return token = JsonToken.START_ARRAY;
+            case 't':
+                return literal("true", JsonToken.TRUE);
+            case 'f':
+                return literal("false", JsonToken.FALSE);
+            case 'n':
+                return literal("null", JsonToken.NULL);
+        }
+        if (c != '-' && (c < '0' || c > '9')) {
+            throw new JsonParseException();
+        }
+        pending = true;
+        return valueDone(JsonToken.NUMBER);
+    }
+
+    private JsonToken literal(String literal, JsonToken literalToken) throws JsonParseException {
+        int len = literal.length();
+        int x = 0;
+        char c = parser.peekToken();
+        while (c >= ' ' && JsonParser.isNotDelimiter(c)) {
+            if (x == len || literal.charAt(x++) != c) {
+                throw new JsonParseException();
+            }
+            parser.nextToken();
+            c = parser.peekToken();
+        }
+        if (x != len) {
+            throw new JsonParseException();
+        }
+        return valueDone(literalToken);
+    }
+
+    private JsonToken valueDone(JsonToken valueToken) {
+        if (depth == 0) {
+            done = true;
+        }
+        return token = valueToken;
+    }
+
+    private JsonToken endContainer(JsonToken endToken) {
+        depth--;
+        return valueDone(endToken);
+    }
+
+    private void push(byte context) throws JsonParseException {
+        parser.checkDepth(depth + 1);
+        if (depth == contexts.length) {
+            byte[] grown = new byte[depth * 2];
+            System.arraycopy(contexts, 0, grown, 0, depth);
+            contexts = grown;
+        }
+        contexts[depth++] = context;
+    }
+
+    private void skipPending() throws JsonParseException {
+        pending = false;
+        if (token == JsonToken.FIELD_NAME) {
+            // keep the characters so the name is still available on the value
+            nameChars.setLength(0);
+            nameChars.append(parser.nextKeyChars());
+            namePending = true;
+        }
+        else if (token == JsonToken.NUMBER) {
+            parser.skipPrimitiveValue();
+        }
+        else {
+            parser.skipString();
+        }
+    }
+
+    /**
+     * The current token, the same as returned by the last call to {@link #nextToken()}
+     * @return the token or null if before the first token or after the end of the document
+     */
+    @Nullable
+    public JsonToken currentToken() {
+        return token;
+    }
+
+    /**
+     * The name of the current field. Available when the current token is {@code FIELD_NAME}
+     * and for the value that directly follows it, whether or not it was asked for on the {@code FIELD_NAME}.
+     * @return the name or null
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @Nullable
+    public String currentName() throws JsonParseException {
+        if (token == JsonToken.FIELD_NAME && pending) {
+            name = parser.nextKey();
+            pending = false;
+        }
+        else if (namePending) {
+            name = parser.keyString(nameChars);
+            namePending = false;
+        }
+        return name;
+    }
+
+    /**
+     * The string value of the current token when it is a {@code STRING} or a {@code FIELD_NAME}
+     * @return the string or null if the current token is another type
+     * @throws JsonParseException if there is a problem parsing
+     */
+    @Nullable
+    public String getString() throws JsonParseException {
+        if (token == JsonToken.FIELD_NAME) {
+            return currentName();
+        }
+        if (token == JsonToken.STRING && pending) {
+            string = parser.nextString();
+            pending = false;
+        }
+        return string;
+    }
+
+    /**
+     * The value of the current token when it is a {@code NUMBER}
+     * @return the number, an Integer, Long, BigInteger, BigDecimal or Double
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IllegalStateException if the current token is not a number
+     */
+    @NonNull
+    public Number getNumber() throws JsonParseException {
+        if (token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Current token is not a number.");
+        }
+        if (pending) {
+            number = parser.nextPrimitiveValue();
+            pending = false;
+        }
+        //noinspection DataFlowIssue // a parsed number value always has a number
+        return number.number;
+    }
+
+    /**
+     * The value of the current token when it is a {@code NUMBER} that fits in a long
+     * @return the long
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IllegalStateException if the current token is not a number or is not a whole number in the range of a long
+     */
+    public long getLong() throws JsonParseException {
+        Number n = getNumber();
+        if (n instanceof Integer || n instanceof Long) {
+            return n.longValue();
+        }
+        throw new IllegalStateException("Current token is not a long.");
+    }
+
+    /**
+     * The value of the current token when it is a {@code NUMBER} that fits in an int
+     * @return the int
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IllegalStateException if the current token is not a number or is not a whole number in the range of an int
+     */
+    public int getInt() throws JsonParseException {
+        Number n = getNumber();
+        if (n instanceof Integer) {
+            return n.intValue();
+        }
+        throw new IllegalStateException("Current token is not an int.");
+    }
+
+    /**
+     * The value of the current token when it is a {@code NUMBER}, as a double
+     * @return the double
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IllegalStateException if the current token is not a number
+     */
+    public double getDouble() throws JsonParseException {
+        return getNumber().doubleValue();
+    }
+
+    /**
+     * The value of the current token when it is {@code TRUE} or {@code FALSE}
+     * @return the boolean
+     * @throws IllegalStateException if the current token is not a boolean
+     */
+    public boolean getBoolean() {
+        if (token == JsonToken.TRUE) {
+            return true;
+        }
+        if (token == JsonToken.FALSE) {
+            return false;
+        }
+        throw new IllegalStateException("Current token is not a boolean.");
+    }
+
+    /**
+     * Read the current value as a JsonValue. When the current token is {@code START_OBJECT}
+     * or {@code START_ARRAY}, the entire object or array is read and the reader is left
+     * on the matching {@code END_OBJECT} or {@code END_ARRAY}.
+     * @return the JsonValue
+     * @throws JsonParseException if there is a problem parsing
+     * @throws IllegalStateException if the current token is not the start of a value
+     */
+    @NonNull
+    public JsonValue readValue() throws JsonParseException {
+        if (token == null) {
+            throw new IllegalStateException("Current token is not a value.");
+        }
+        switch (token) {
+            case START_OBJECT:
+                parser.setDepth(depth - 1); // the containers around the one being read
+                JsonValue map = parser.nextContainer('{');
+                endContainer(JsonToken.END_OBJECT);
+                return map;
+            case START_ARRAY:
+                parser.setDepth(depth - 1);
+                JsonValue array = parser.nextContainer('[');
+                endContainer(JsonToken.END_ARRAY);
+                return array;
+            case STRING:
+                //noinspection DataFlowIssue // a STRING token always has a string
+                return new JsonValue(getString());
+            case NUMBER:
+                getNumber();
+                return number;
+            case TRUE:
+                return JsonValue.TRUE;
+            case FALSE:
+                return JsonValue.FALSE;
+            case NULL:
+                return JsonValue.NULL;
+        }
+        throw new IllegalStateException("Current token is not a value.");
+    }
+
+    /**
+     * If the current token is {@code START_OBJECT} or {@code START_ARRAY}, skip everything
+     * up to the matching {@code END_OBJECT} or {@code END_ARRAY} and make it the current token.
+     * For any other token this does nothing. Skipped content is matched but not validated.
+     * @throws JsonParseException if there is a problem parsing
+     */
+    public void skipChildren() throws JsonParseException {
+        if (token == JsonToken.START_OBJECT) {
+            parser.skipContainer();
+            endContainer(JsonToken.END_OBJECT);
+        }
+        else if (token == JsonToken.START_ARRAY) {
+            parser.skipContainer();
+            endContainer(JsonToken.END_ARRAY);
+        }
+    }
+}
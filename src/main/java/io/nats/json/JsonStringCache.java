@@ -0,0 +1,290 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of canonical Strings that is looked up directly from the characters
+ * being parsed, so a String that is already cached is returned without allocating.
+ * The cache is a fixed size, hash-probed table. When both slots a string can go in are taken,
+ * the new string replaces an entry that has not been hit since it was last considered for replacement,
+ * so strings that repeat stay cached while one-off strings pass through, and the cache never grows
+ * past its capacity.
+ * <p>The cache is thread safe and lock free. Entries are immutable Strings, so a thread that reads
+ * a slot while another thread replaces it sees either entry, and each is checked against the input.
+ */
+public class JsonStringCache {
+
+    /**
+     * The default number of entries
+     */
+    public static final int DEFAULT_CAPACITY = 2048;
+
+    /**
+     * The default longest string that is cached
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    /**
+     * The default longest value string that is cached by the default value cache
+     */
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 48;
+
+    private static final JsonStringCache DEFAULT_KEY_CACHE = new JsonStringCache();
+    private static final JsonStringCache DEFAULT_VALUE_CACHE = new JsonStringCache(DEFAULT_CAPACITY, DEFAULT_MAX_VALUE_LENGTH);
+
+    private final String[] table;
+    private final boolean[] hit;
+    private final int mask;
+    private final int maxLength;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Construct a cache with the default capacity and max length
+     */
+    public JsonStringCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Construct a cache
+     * @param capacity the number of entries, rounded up to a power of two
+     * @param maxLength the longest string that is cached, longer strings are never cached
+     */
+    public JsonStringCache(int capacity, int maxLength) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30.");
+        }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Max length must be at least 1.");
+        }
+        table = new String[Integer.highestOneBit(capacity - 1) << 1];
+        hit = new boolean[table.length];
+        mask = table.length - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Get the cache shared by parsers that use the {@link JsonParser.Option#CACHE_KEYS} option
+     * @return the cache
+     */
+    @NonNull
+    public static JsonStringCache defaultKeyCache() {
+        return DEFAULT_KEY_CACHE;
+    }
+
+    /**
+     * Get the cache shared by parsers that use the {@link JsonParser.Option#CACHE_VALUES} option
+     * @return the cache
+     */
+    @NonNull
+    public static JsonStringCache defaultValueCache() {
+        return DEFAULT_VALUE_CACHE;
+    }
+
+    /**
+     * Get the number of lookups that found a cached string
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that did not find a cached string.
+     * Strings longer than the max length are not looked up, so they are not counted.
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Reset the hit and miss counts to zero
+     */
+    public void resetCounts() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Get the number of entries the cache holds when full
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return table.length;
+    }
+
+    /**
+     * Get the longest string that is cached
+     * @return the max length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Remove every entry. The hit and miss counts are not changed.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+            hit[i] = false;
+        }
+    }
+
+    String get(char[] chars, int from, int to) {
+        int len = to - from;
+        if (len > maxLength) {
+            return new String(chars, from, len);
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = slot(hash);
+        String s = table[slot];
+        if (s != null && matches(s, hash, chars, from, len)) {
+            return hit(slot, s);
+        }
+        int next = (slot + 1) & mask;
+        String s2 = table[next];
+        if (s2 != null && matches(s2, hash, chars, from, len)) {
+            return hit(next, s2);
+        }
+        return put(slot, next, s, new String(chars, from, len));
+    }
+
+    String get(CharSequence chars, int from, int to) {
+        int len = to - from;
+        if (len > maxLength) {
+            return chars.subSequence(from, to).toString();
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        int slot = slot(hash);
+        String s = table[slot];
+        if (s != null && matches(s, hash, chars, from, len)) {
+            return hit(slot, s);
+        }
+        int next = (slot + 1) & mask;
+        String s2 = table[next];
+        if (s2 != null && matches(s2, hash, chars, from, len)) {
+            return hit(next, s2);
+        }
+        return put(slot, next, s, chars.subSequence(from, to).toString());
+    }
+
+    // the bytes must all be ascii, so each byte is one char
+    String getAscii(byte[] bytes, int from, int to) {
+        int len = to - from;
+        if (len > maxLength) {
+            return new String(bytes, from, len, StandardCharsets.ISO_8859_1);
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int slot = slot(hash);
+        String s = table[slot];
+        if (s != null && matches(s, hash, bytes, from, len)) {
+            return hit(slot, s);
+        }
+        int next = (slot + 1) & mask;
+        String s2 = table[next];
+        if (s2 != null && matches(s2, hash, bytes, from, len)) {
+            return hit(next, s2);
+        }
+        return put(slot, next, s, new String(bytes, from, len, StandardCharsets.ISO_8859_1));
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private String hit(int slot, String s) {
+        hits.increment();
+        if (!hit[slot]) {
+            hit[slot] = true;
+        }
+        return s;
+    }
+
+    // prefer an empty slot, then an entry that has not been hit. When both entries
+    // have been hit, the new string is not cached and both lose their mark instead
+    private String put(int slot, int next, String current, String s) {
+        misses.increment();
+        if (current == null) {
+            table[slot] = s;
+        }
+        else if (table[next] == null) {
+            table[next] = s;
+        }
+        else if (!hit[slot]) {
+            table[slot] = s;
+        }
+        else if (!hit[next]) {
+            table[next] = s;
+        }
+        else {
+            hit[slot] = false;
+            hit[next] = false;
+        }
+        return s;
+    }
+
+    private static boolean matches(String s, int hash, char[] chars, int from, int len) {
+        if (s.length() != len || s.hashCode() != hash) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) != chars[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String s, int hash, CharSequence chars, int from, int len) {
+        if (s.length() != len || s.hashCode() != hash) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) != chars.charAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String s, int hash, byte[] bytes, int from, int len) {
+        if (s.length() != len || s.hashCode() != hash) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) != bytes[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,345 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import java.util.*;
+
+/**
+ * The structural index of a lazily parsed document, and the lazy maps and lists that are built from it.
+ * <p>Parsing makes one pass over the input that records each value in a compact int array, the tape.
+ * Objects and arrays record where their entries end and how many they have, strings and numbers
+ * record their offset in the input, and true, false and null are recorded as is. Nothing else is built.
+ * <p>A lazy map or list builds its direct entries from the tape the first time it is accessed.
+ * Strings and numbers are read from the input at that point, nested objects and arrays become
+ * lazy themselves. Building is guarded by the tape, so a lazy tree can be shared between threads.
+ * <p>The input is referenced, not copied, so it must not change while the tree is in use.
+ */
+final class JsonTape {
+    private static final int OBJECT = 1;    // type, end, count, then a key offset and a value entry for each member
+    private static final int ARRAY = 2;     // type, end, count, then a value entry for each element
+    private static final int STRING = 3;    // type, offset of the opening quote
+    private static final int NUMBER = 4;    // type, offset of the first char
+    private static final int TRUE = 5;
+    private static final int FALSE = 6;
+    private static final int NULL = 7;
+
+    private final JsonParser reader;
+    private int[] tape = new int[64];
+    private int size;
+    private int depth;
+
+    private JsonTape(JsonParser reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Index the next value and return it as a lazy JsonValue
+     * @param parser the parser positioned before the value
+     * @param reader a parser over the same data, used only by the tape to build entries
+     * @return the JsonValue
+     * @throws JsonParseException if the structure is not valid
+     */
+    static JsonValue parse(JsonParser parser, JsonParser reader) throws JsonParseException {
+        JsonTape tape = new JsonTape(reader);
+        tape.value(parser);
+        return tape.valueAt(0);
+    }
+
+    private void value(JsonParser p) throws JsonParseException {
+        char c = p.peekToken();
+        switch (c) {
+            case 0:
+                throw new JsonParseException("Unexpected end of data.");
+            case '{':
+                p.nextToken();
+                p.checkDepth(++depth);
+                object(p);
+                depth--;
+                return;
+            case '[':
+                p.nextToken();
+                p.checkDepth(++depth);
+                array(p);
+                depth--;
+                return;
+            case '"':
+                add(STRING, p.index());
+                p.nextToken();
+                p.skipString();
+                return;
+        }
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            add(NUMBER, p.index());
+            p.skipPrimitiveValue();
+            return;
+        }
+        JsonValue literal = p.nextPrimitiveValue(); // anything but true, false or null throws
+        add(literal == JsonValue.TRUE ? TRUE : literal == JsonValue.FALSE ? FALSE : NULL);
+    }
+
+    // the same grammar as the objects in JsonParser.nextContainer
+    private void object(JsonParser p) throws JsonParseException {
+        int start = size;
+        add(OBJECT, 0, 0);
+        int count = 0;
+        boolean first = true;
+        while (true) {
+            int member = size;
+            p.peekToken();
+            int keyOffset = p.index();
+            char c = p.nextToken();
+            switch (c) {
+                case 0:
+                    throw new JsonParseException("Text must end with '}'");
+                case '}':
+                    end(start, count);
+                    return;
+                case '{':
+                case '[':
+                    if (first) {
+                        throw new JsonParseException("Cannot directly nest another Object or Array.");
+                    }
+            }
+            first = false;
+            add(keyOffset);
+            p.skipString();
+
+            if (p.nextToken() != ':') {
+                throw new JsonParseException("Expected a ':' after a key.");
+            }
+
+            value(p);
+            if (tape[member + 1] == NULL && !p.keepNulls()) {
+                size = member;
+            }
+            else {
+                count++;
+            }
+
+            switch (p.nextToken()) {
+                case ',':
+                    if (p.peekToken() == '}') {
+                        end(start, count);
+                        return; // dangling comma
+                    }
+                    break;
+                case '}':
+                    end(start, count);
+                    return;
+                default:
+                    throw new JsonParseException("Expected a ',' or '}'.");
+            }
+        }
+    }
+
+    // the same grammar as the arrays in JsonParser.nextContainer
+    private void array(JsonParser p) throws JsonParseException {
+        int start = size;
+        add(ARRAY, 0, 0);
+        int count = 0;
+        char c = p.peekToken();
+        while (c != ']') {
+            if (c == ',') {
+                p.nextToken(); // advance past the peek
+            }
+            else {
+                value(p);
+                count++;
+            }
+            c = p.peekToken();
+        }
+        p.nextToken(); // advance past the peek
+        end(start, count);
+    }
+
+    private void end(int start, int count) {
+        tape[start + 1] = size;
+        tape[start + 2] = count;
+    }
+
+    private void add(int a) {
+        ensureCapacity(1);
+        tape[size++] = a;
+    }
+
+    private void add(int a, int b) {
+        ensureCapacity(2);
+        tape[size++] = a;
+        tape[size++] = b;
+    }
+
+    private void add(int a, int b, int c) {
+        ensureCapacity(3);
+        tape[size++] = a;
+        tape[size++] = b;
+        tape[size++] = c;
+    }
+
+    private void ensureCapacity(int n) {
+        if (size + n > tape.length) {
+            tape = Arrays.copyOf(tape, Math.max(tape.length * 2, size + n));
+        }
+    }
+
+    // the position of the entry after the one at pos
+    private int next(int pos) {
+        switch (tape[pos]) {
+            case OBJECT:
+            case ARRAY:
+                return tape[pos + 1];
+            case STRING:
+            case NUMBER:
+                return pos + 2;
+            default:
+                return pos + 1;
+        }
+    }
+
+    private JsonValue valueAt(int pos) throws JsonParseException {
+        switch (tape[pos]) {
+            case OBJECT:
+                return new JsonValue(new LazyMap(pos));
+            case ARRAY:
+                return JsonValue.adoptArray(new LazyList(pos));
+            case STRING:
+                reader.seek(tape[pos + 1]);
+                reader.nextToken();
+                return new JsonValue(reader.nextString());
+            case NUMBER:
+                reader.seek(tape[pos + 1]);
+                return reader.nextPrimitiveValue();
+            case TRUE:
+                return JsonValue.TRUE;
+            case FALSE:
+                return JsonValue.FALSE;
+            default:
+                return JsonValue.NULL;
+        }
+    }
+
+    private String keyAt(int offset) throws JsonParseException {
+        reader.seek(offset);
+        reader.nextToken();
+        return reader.nextKey();
+    }
+
+    private final class LazyMap extends AbstractMap<String, JsonValue> {
+        private final int pos;
+        private volatile Map<String, JsonValue> map;
+
+        LazyMap(int pos) {
+            this.pos = pos;
+        }
+
+        private Map<String, JsonValue> map() {
+            Map<String, JsonValue> m = map;
+            if (m == null) {
+                synchronized (JsonTape.this) {
+                    m = map;
+                    if (m == null) {
+                        m = build();
+                        map = m;
+                    }
+                }
+            }
+            return m;
+        }
+
+        private Map<String, JsonValue> build() {
+            int count = tape[pos + 2];
+            Map<String, JsonValue> m = new HashMap<>(8); // sized like JsonParser.nextContainer so the order matches
+            try {
+                int p = pos + 3;
+                for (int x = 0; x < count; x++) {
+                    String key = keyAt(tape[p]);
+                    m.put(key, valueAt(p + 1));
+                    p = next(p + 1);
+                }
+            }
+            catch (JsonParseException e) {
+                throw new RuntimeException(e);
+            }
+            return Collections.unmodifiableMap(m);
+        }
+
+        @Override
+        public Set<Entry<String, JsonValue>> entrySet() {
+            return map().entrySet();
+        }
+
+        @Override
+        public JsonValue get(Object key) {
+            return map().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map().size();
+        }
+    }
+
+    private final class LazyList extends AbstractList<JsonValue> implements RandomAccess {
+        private final int pos;
+        private volatile JsonValue[] values;
+
+        LazyList(int pos) {
+            this.pos = pos;
+        }
+
+        private JsonValue[] values() {
+            JsonValue[] v = values;
+            if (v == null) {
+                synchronized (JsonTape.this) {
+                    v = values;
+                    if (v == null) {
+                        v = build();
+                        values = v;
+                    }
+                }
+            }
+            return v;
+        }
+
+        private JsonValue[] build() {
+            JsonValue[] v = new JsonValue[tape[pos + 2]];
+            try {
+                int p = pos + 3;
+                for (int x = 0; x < v.length; x++) {
+                    v[x] = valueAt(p);
+                    p = next(p);
+                }
+            }
+            catch (JsonParseException e) {
+                throw new RuntimeException(e);
+            }
+            return v;
+        }
+
+        @Override
+        public JsonValue get(int index) {
+            return values()[index];
+        }
+
+        @Override
+        public int size() {
+            return tape[pos + 2];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+/**
+ * The tokens returned by a {@link JsonReader}
+ */
+public enum JsonToken {
+    /**
+     * The start of an object, a {@code &#123;}
+     */
+    START_OBJECT,
+
+    /**
+     * The end of an object, a {@code &#125;}
+     */
+    END_OBJECT,
+
+    /**
+     * The start of an array, a {@code [}
+     */
+    START_ARRAY,
+
+    /**
+     * The end of an array, a {@code ]}
+     */
+    END_ARRAY,
+
+    /**
+     * The name of a field in an object
+     */
+    FIELD_NAME,
+
+    /**
+     * A string value
+     */
+    STRING,
+
+    /**
+     * A number value
+     */
+    NUMBER,
+
+    /**
+     * The literal {@code true}
+     */
+    TRUE,
+
+    /**
+     * The literal {@code false}
+     */
+    FALSE,
+
+    /**
+     * The literal {@code null}
+     */
+    NULL
+}
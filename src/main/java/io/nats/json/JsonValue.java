@@ -155,7 +155,7 @@ public class JsonValue implements JsonSerializable {
 
     /**
      * A list of field names used for ordering the fields when resolving toJson,
-     * when the object is a map
+     * when the object is a map. For any other type this is an immutable empty list.
      */
     @NonNull
     public final List<String> mapOrder;
@@ -213,11 +213,11 @@ public class JsonValue implements JsonSerializable {
     }
 
     private static JsonValue _instance(Collection<?> list) {
-        List<JsonValue> jv = new ArrayList<>();
+        List<JsonValue> jv = new ArrayList<>(list.size());
         for (Object o : list) {
             jv.add(JsonValue.instance(o));
         }
-        return new JsonValue(jv);
+        return adoptArray(jv);
     }
 
     private static JsonValue _instance(Map<?, ?> map) {
@@ -313,7 +313,7 @@ public class JsonValue implements JsonSerializable {
      * @param collection the collection
      */
     public JsonValue(Collection<JsonValue> collection) {
-        this(null, null, null, null, null, null, null, null, null, collection);
+        this(null, null, null, null, null, null, null, null, null, collection == null ? null : new ArrayList<>(collection));
     }
 
     /**
@@ -321,7 +321,16 @@ public class JsonValue implements JsonSerializable {
      * @param array the array
      */
     public JsonValue(JsonValue[] array) {
-        this(null, null, null, null, null, null, null, null, null, array == null ? null : Arrays.asList(array));
+        this(null, null, null, null, null, null, null, null, null, array == null ? null : new ArrayList<>(Arrays.asList(array)));
+    }
+
+    /**
+     * Create an array JsonValue that uses the list as is instead of copying it
+     * @param list the list, which becomes owned by the JsonValue
+     * @return the JsonValue
+     */
+    static JsonValue adoptArray(@NonNull List<JsonValue> list) {
+        return new JsonValue(null, null, null, null, null, null, null, null, null, list);
     }
 
     private JsonValue(@Nullable String string,
@@ -333,11 +342,12 @@ public class JsonValue implements JsonSerializable {
                       @Nullable BigDecimal bd,
                       @Nullable BigInteger bi,
                       @Nullable Map<String, JsonValue> map,
-                      @Nullable Collection<JsonValue> array)
+                      @Nullable List<JsonValue> array)
     {
         this.map = map;
-        this.mapOrder = new ArrayList<>();
-        this.array = array == null ? null : new ArrayList<>(array);
+        // only a map can be ordered, everything else shares the immutable empty list
+        this.mapOrder = map == null ? Collections.emptyList() : new ArrayList<>();
+        this.array = array;
         this.string = string;
         this.bool = bool;
         this.i = i;
@@ -417,7 +427,7 @@ public class JsonValue implements JsonSerializable {
         bd = null;
         bi = null;
         number = null;
-        mapOrder = new ArrayList<>();
+        mapOrder = type == JsonValueType.MAP ? new ArrayList<>() : Collections.emptyList();
 
         if (type == JsonValueType.MAP) {
             map = EMPTY_MAP_MAP;
@@ -0,0 +1,68 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * JsonInput that reads UTF-8 encoded JSON from a file too large for one mapping,
+ * mapping it one segment at a time. Each segment is read like a buffer from a stream,
+ * so a value can span segments and only the current one is referenced.
+ * An IOException from mapping is thrown as an UncheckedIOException
+ * so it can pass through the parser, the caller is expected to unwrap it.
+ */
+final class MappedFileJsonInput extends Utf8JsonInput {
+    private final FileChannel channel;
+    private final long size;
+    private final int segmentSize;
+    private long mapped;
+    private ByteBuffer segment;
+
+    MappedFileJsonInput(FileChannel channel, long size, int segmentSize) {
+        super(0, 0);
+        this.channel = channel;
+        this.size = size;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    byte byteAt(int index) {
+        return segment.get(index);
+    }
+
+    @Override
+    ByteBuffer words() {
+        return segment;
+    }
+
+    @Override
+    int fill() {
+        if (mapped >= size) {
+            return -1;
+        }
+        int len = (int)Math.min(segmentSize, size - mapped);
+        try {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, mapped, len);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        mapped += len;
+        return len;
+    }
+}
@@ -0,0 +1,223 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+
+/**
+ * Accumulates the characters of a JSON number as they are read, without building a String.
+ * Integers are accumulated into a long, and decimals into a long unscaled value and a scale,
+ * which gives exactly the BigDecimal that parsing the text would. Anything it does not handle,
+ * such as more digits than fit in a long or a leading zero, reports no value so the caller can
+ * fall back to parsing the text.
+ */
+final class NumberAccumulator {
+    private static final int START = 0;
+    private static final int SIGN = 1;          // after the minus
+    private static final int INT = 2;           // in the integer digits
+    private static final int DOT = 3;           // after the decimal point
+    private static final int FRACTION = 4;      // in the fraction digits
+    private static final int EXP = 5;           // after the e or E
+    private static final int EXP_SIGN = 6;      // after the exponent sign
+    private static final int EXP_DIGITS = 7;    // in the exponent digits
+    private static final int FALLBACK = 8;      // not something this handles
+
+    private static final long MULTIPLY_MIN = Long.MIN_VALUE / 10;
+    private static final int MAX_EXPONENT = 100_000_000;
+
+    private int state;
+    private boolean negative;
+    private boolean leadingZero;
+    private long accumulated; // kept negative, like Long.parseLong, so Long.MIN_VALUE fits
+    private int fractionDigits;
+    private boolean negativeExponent;
+    private int exponent;
+
+    void reset() {
+        state = START;
+        negative = false;
+        leadingZero = false;
+        accumulated = 0;
+        fractionDigits = 0;
+        negativeExponent = false;
+        exponent = 0;
+    }
+
+    void accept(char c) {
+        switch (state) {
+            case START:
+                if (c == '-') {
+                    negative = true;
+                    state = SIGN;
+                    return;
+                }
+                if (intStart(c)) { // the first char is treated the same as after a sign
+                    return;
+                }
+                break;
+            case SIGN:
+                if (intStart(c)) {
+                    return;
+                }
+                break;
+            case INT:
+                if (c >= '0' && c <= '9') {
+                    if (leadingZero) {
+                        break; // 01 is an error and 01.5 is allowed, let the fallback sort those out
+                    }
+                    digit(c);
+                    return;
+                }
+                if (c == '.') {
+                    state = DOT;
+                    return;
+                }
+                if (c == 'e' || c == 'E') {
+                    state = EXP;
+                    return;
+                }
+                break;
+            case DOT:
+            case FRACTION:
+                if (c >= '0' && c <= '9') {
+                    state = FRACTION;
+                    fractionDigits++;
+                    digit(c);
+                    return;
+                }
+                if (state == FRACTION && (c == 'e' || c == 'E')) {
+                    state = EXP;
+                    return;
+                }
+                break;
+            case EXP:
+                if (c == '-' || c == '+') {
+                    negativeExponent = c == '-';
+                    state = EXP_SIGN;
+                    return;
+                }
+                if (exponentDigit(c)) { // the first exponent char is treated the same as after a sign
+                    return;
+                }
+                break;
+            case EXP_SIGN:
+            case EXP_DIGITS:
+                if (exponentDigit(c)) {
+                    return;
+                }
+                break;
+        }
+        state = FALLBACK;
+    }
+
+    // the first digit of the integer part
+    private boolean intStart(char c) {
+        if (c >= '0' && c <= '9') {
+            leadingZero = c == '0';
+            state = INT;
+            digit(c);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean exponentDigit(char c) {
+        if (c >= '0' && c <= '9' && exponent < MAX_EXPONENT) {
+            exponent = exponent * 10 + (c - '0');
+            state = EXP_DIGITS;
+            return true;
+        }
+        return false;
+    }
+
+    private void digit(char c) {
+        int d = c - '0';
+        if (accumulated < MULTIPLY_MIN) {
+            state = FALLBACK;
+            return;
+        }
+        long shifted = accumulated * 10;
+        if (shifted < Long.MIN_VALUE + d) {
+            state = FALLBACK;
+            return;
+        }
+        accumulated = shifted - d;
+    }
+
+    /**
+     * Whether there is a value for the accumulated number, checked without creating it
+     * @return true if {@link #value()} will not return null
+     */
+    boolean hasValue() {
+        if (state != INT && state != FRACTION && state != EXP_DIGITS) {
+            return false;
+        }
+        if (negative && accumulated == 0) {
+            return true;
+        }
+        if (!negative && accumulated == Long.MIN_VALUE) {
+            return false;
+        }
+        if (state == INT) {
+            return true;
+        }
+        long scale = scale();
+        return scale >= Integer.MIN_VALUE && scale <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Whether the accumulated number is an integer that fits in a long, not counting -0 which is a double
+     * @return true if {@link #longValue()} is the value
+     */
+    boolean isLong() {
+        return state == INT && (negative ? accumulated != 0 : accumulated != Long.MIN_VALUE);
+    }
+
+    /**
+     * The accumulated integer, only valid when {@link #isLong()}
+     * @return the value
+     */
+    long longValue() {
+        return negative ? accumulated : -accumulated;
+    }
+
+    /**
+     * The value of the accumulated number, or null if the text must be parsed instead
+     * @return the value or null
+     */
+    @Nullable
+    JsonValue value() {
+        if (!hasValue()) {
+            return null;
+        }
+        if (negative && accumulated == 0) {
+            return new JsonValue(-0.0); // BigDecimal doesn't support -0.0
+        }
+        long unscaled = negative ? accumulated : -accumulated;
+        if (state == INT) {
+            if (unscaled >= Integer.MIN_VALUE && unscaled <= Integer.MAX_VALUE) {
+                return new JsonValue((int) unscaled);
+            }
+            return new JsonValue(unscaled);
+        }
+        return new JsonValue(BigDecimal.valueOf(unscaled, (int)scale()));
+    }
+
+    private long scale() {
+        return (long)fractionDigits - (negativeExponent ? -exponent : exponent);
+    }
+}
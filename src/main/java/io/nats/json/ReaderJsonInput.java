@@ -0,0 +1,54 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/**
+ * JsonInput that reads JSON from a Reader through a fixed size buffer.
+ * An IOException from the reader is thrown as an UncheckedIOException
+ * so it can pass through the parser, the caller is expected to unwrap it.
+ */
+final class ReaderJsonInput extends CharArrayJsonInput {
+    private final Reader reader;
+    private final char[] buffer;
+
+    ReaderJsonInput(Reader reader, char[] buffer) {
+        super(buffer, 0, 0);
+        this.reader = reader;
+        this.buffer = buffer;
+    }
+
+    @Override
+    JsonInput duplicate() {
+        return null;
+    }
+
+    @Override
+    int fill() {
+        try {
+            int n;
+            do {
+                n = reader.read(buffer, 0, buffer.length);
+            } while (n == 0);
+            return n;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base JsonInput for UTF-8 encoded JSON.
+ * Structural characters are read directly from the bytes,
+ * multibyte sequences are only decoded when they are read as part of a string.
+ */
+abstract class Utf8JsonInput extends JsonInput {
+    // reading 8 bytes at a time as a long is only fast where ByteBuffer.getLong is an intrinsic, which is Java 9 and later
+    static final boolean SWAR = !System.getProperty("java.specification.version", "1.8").startsWith("1.");
+    static final int SWAR_MIN_LENGTH = 16;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long QUOTES = ONES * '"';
+    private static final long BACKSLASHES = ONES * '\\';
+    private static final long SPACES = ONES * ' ';
+
+    private int end;
+    private int idx;
+    private long base;
+    private char pendingLowSurrogate;
+
+    Utf8JsonInput(int startIndex, int end) {
+        this.end = end;
+        idx = startIndex;
+    }
+
+    /**
+     * Get the byte at the absolute index
+     * @param index the index, always less than the end
+     * @return the byte
+     */
+    abstract byte byteAt(int index);
+
+    /**
+     * The data as a ByteBuffer, indexed the same as {@link #byteAt(int)}, so it can be read 8 bytes at a time
+     * @return the buffer, or null if the data can only be read a byte at a time
+     */
+    @Nullable
+    ByteBuffer words() {
+        return null;
+    }
+
+    @Override
+    final char peekToken() throws JsonParseException {
+        while (idx < end || refill()) {
+            int b = byteAt(idx) & 0xFF;
+            if (!isWhitespace(b)) {
+                return (char)b;
+            }
+            idx++;
+        }
+        return 0;
+    }
+
+    @Override
+    final char nextToken() throws JsonParseException {
+        char c = peekToken();
+        if (idx < end) {
+            idx++;
+        }
+        return c;
+    }
+
+    @Override
+    final char nextChar() throws JsonParseException {
+        if (pendingLowSurrogate != 0) {
+            char c = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+            return c;
+        }
+        if (idx >= end && !refill()) {
+            return 0;
+        }
+        int b = byteAt(idx++);
+        if (b >= 0) {
+            return (char)b;
+        }
+        return decodeMultiByte(b & 0xFF);
+    }
+
+    // only strings of ascii bytes are read in bulk, anything else is decoded and validated by nextChar()
+    @Override
+    final String nextUnescapedString(StringBuilder sb, @Nullable JsonStringCache cache) {
+        if (pendingLowSurrogate != 0) {
+            return null;
+        }
+        int start = idx;
+        int i = scanPlainAscii(start, end);
+        if (i < end && byteAt(i) == '"') {
+            idx = i + 1;
+            return asciiString(start, i, cache);
+        }
+        for (int x = start; x < i; x++) {
+            sb.append((char)byteAt(x));
+        }
+        idx = i;
+        return null;
+    }
+
+    /**
+     * Find the first byte that ends a run of plain string content,
+     * a quote, a backslash, a control character or the start of a multibyte sequence,
+     * checking 8 bytes at a time when the data can be read as {@link #words()}
+     * @param from the absolute index to start at
+     * @param to the absolute index to stop at
+     * @return the index of the byte, or {@code to} if there is none
+     */
+    int scanPlainAscii(int from, int to) {
+        int i = from;
+        ByteBuffer w = SWAR && to - from >= SWAR_MIN_LENGTH ? words() : null;
+        if (w != null) {
+            for (int last = to - 8; i <= last; i += 8) {
+                if (hasSpecialByte(w.getLong(i))) {
+                    break;
+                }
+            }
+        }
+        for (; i < to; i++) {
+            byte b = byteAt(i);
+            if (b < ' ' || b == '"' || b == '\\') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    // SIMD within a register: whether any of the 8 bytes is a quote, a backslash, below a space or not ascii.
+    // (x - ONES) & ~x has the high bit set for a zero byte, so xor finds equal bytes,
+    // subtracting SPACES finds bytes below a space, and the high bit itself marks non ascii bytes.
+    // The bytes are all treated alike, so the byte order of the buffer does not matter.
+    static boolean hasSpecialByte(long w) {
+        long q = w ^ QUOTES;
+        long b = w ^ BACKSLASHES;
+        return ((((q - ONES) & ~q) | ((b - ONES) & ~b) | ((w - SPACES) & ~w) | w) & HIGH_BITS) != 0;
+    }
+
+    /**
+     * Make a String from a range of bytes that are all ascii
+     * @param from the absolute index of the first byte
+     * @param to the absolute index after the last byte
+     * @param cache if not null, where the string is looked up
+     * @return the String
+     */
+    String asciiString(int from, int to, @Nullable JsonStringCache cache) {
+        char[] chars = new char[to - from];
+        for (int x = from; x < to; x++) {
+            chars[x - from] = (char)byteAt(x);
+        }
+        return cache == null ? new String(chars) : cache.get(chars, 0, chars.length);
+    }
+
+    @Override
+    final JsonInput duplicate() {
+        return duplicate(end);
+    }
+
+    /**
+     * A new input over the same data
+     * @param end the end of the data
+     * @return the input, or null if the data cannot be read again
+     */
+    Utf8JsonInput duplicate(int end) {
+        return null;
+    }
+
+    @Override
+    final void seek(int index) {
+        idx = index;
+        pendingLowSurrogate = 0;
+    }
+
+    @Override
+    final long index() {
+        return base + idx;
+    }
+
+    @Override
+    final int remaining() {
+        return end - idx;
+    }
+
+    private boolean refill() throws JsonParseException {
+        int n = fill();
+        if (n <= 0) {
+            return false;
+        }
+        base += end;
+        idx = 0;
+        end = n;
+        return true;
+    }
+
+    private char decodeMultiByte(int b0) throws JsonParseException {
+        if (b0 < 0xC2) {
+            throw invalidUtf8(); // continuation byte or overlong 2 byte lead
+        }
+        if (b0 < 0xE0) {
+            return (char)(((b0 & 0x1F) << 6) | nextContinuation());
+        }
+        if (b0 < 0xF0) {
+            int b1 = nextContinuation();
+            if ((b0 == 0xE0 && b1 < 0x20) || (b0 == 0xED && b1 >= 0x20)) {
+                throw invalidUtf8(); // overlong or surrogate code point
+            }
+            return (char)(((b0 & 0x0F) << 12) | (b1 << 6) | nextContinuation());
+        }
+        if (b0 < 0xF5) {
+            int b1 = nextContinuation();
+            if ((b0 == 0xF0 && b1 < 0x10) || (b0 == 0xF4 && b1 >= 0x10)) {
+                throw invalidUtf8(); // overlong or above U+10FFFF
+            }
+            int cp = ((b0 & 0x07) << 18) | (b1 << 12) | (nextContinuation() << 6) | nextContinuation();
+            pendingLowSurrogate = Character.lowSurrogate(cp);
+            return Character.highSurrogate(cp);
+        }
+        throw invalidUtf8();
+    }
+
+    private int nextContinuation() throws JsonParseException {
+        if (idx < end || refill()) {
+            int b = byteAt(idx);
+            if ((b & 0xC0) == 0x80) {
+                idx++;
+                return b & 0x3F;
+            }
+        }
+        throw invalidUtf8();
+    }
+
+    static JsonParseException invalidUtf8() {
+        return new JsonParseException("Invalid UTF-8 sequence.");
+    }
+}
@@ -0,0 +1,114 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.nats.json.JsonParser.Option.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonArrayTaskTests {
+
+    private static String listing(int count) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "\n  " : ",\n  ")
+                .append("{\"name\":\"stream-").append(i).append("\",\"subjects\":[\"s.").append(i).append(".>\"],")
+                .append("\"messages\":").append(i * 1000L).append(",\"ratio\":").append(i).append(".25,")
+                .append("\"note\":\"caf\u00e9 \\\"quoted\\\" \\u00e9\",\"sealed\":").append(i % 2 == 0).append(",\"gone\":null}");
+            if (i % 100 == 0) {
+                sb.append(", [1, [2, \"]\"], {}], \"x\", -0, null");
+            }
+        }
+        return sb.append("\n]").toString();
+    }
+
+    @Test
+    public void testParallelEqualsSequential() throws Exception {
+        String json = listing(5000);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertTrue(bytes.length > 4 * JsonArrayTask.MIN_PARALLEL_LENGTH);
+        JsonValue expected = JsonParser.parse(json);
+
+        assertEquals(expected, JsonParser.parse(json, PARALLEL));
+        assertEquals(expected, JsonParser.parse(json.toCharArray(), PARALLEL));
+        assertEquals(expected, JsonParser.parse(bytes, PARALLEL));
+        assertEquals(expected, JsonParser.parse(new ByteArrayInputStream(bytes), PARALLEL)); // ignored for streams
+        assertEquals(JsonParser.parse(json, KEEP_NULLS), JsonParser.parse(bytes, PARALLEL, KEEP_NULLS, CACHE_KEYS, CACHE_VALUES));
+        assertEquals(expected.toJson(), JsonParser.parse(bytes, PARALLEL).toJson());
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertEquals(expected, new JsonParser(bytes).parse(pool));
+            assertEquals(expected, new JsonParser(json).parse(pool));
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+            direct.put(bytes).put((byte) ' ').put("[]".getBytes(StandardCharsets.UTF_8)).flip();
+            ByteBuffer eager = direct.duplicate();
+            JsonParser.parse(eager);
+            assertEquals(expected, new JsonParser(direct).parse(pool));
+            assertEquals(eager.position(), direct.position());
+
+            // the elements are in order
+            JsonValue v = new JsonParser(bytes).parse(pool);
+            assertEquals(expected.array.size(), v.array.size());
+            assertEquals("stream-4999", v.array.get(v.array.size() - 1).map.get("name").string);
+            v.array.add(JsonValue.NULL); // the same mutable list as a sequential parse
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmallAndNonArrayInputs() throws Exception {
+        String[] inputs = {"[]", "[ ]", "[,1,,2,]", "[[1],[2]]", "{\"a\":[1,2]}", "\"s\"", "42", "true", listing(10)};
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (String json : inputs) {
+                assertEquals(JsonParser.parse(json), JsonParser.parse(json, PARALLEL), json);
+                assertEquals(JsonParser.parse(json), new JsonParser(json).parse(pool), json);
+            }
+            assertSame(JsonValue.NULL, JsonParser.parse("  ", PARALLEL));
+            assertSame(JsonValue.NULL, new JsonParser("  ").parse(pool));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelErrors() {
+        String json = listing(3000);
+        String[] bad = {
+            json.substring(0, json.length() - 1),                           // no closing ]
+            json.replace("\"stream-2500\"", "\"stream-2500"),                // unterminated string
+            json.replace("\"messages\":2500000", "\"messages\":25x"),        // only caught by the element parse
+            json.replace("\"stream-2999\"", "\"stream-\\q\""),                // only caught by the element parse
+            json.replace("{\"name\":\"stream-1\"", "{\"name\" \"stream-1\""),
+        };
+        for (String b : bad) {
+            assertNotEquals(json, b);
+            assertThrows(JsonParseException.class, () -> JsonParser.parse(b));
+            assertThrows(JsonParseException.class, () -> JsonParser.parse(b, PARALLEL));
+            assertThrows(JsonParseException.class, () -> JsonParser.parse(b.getBytes(StandardCharsets.UTF_8), PARALLEL));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static io.nats.json.JsonParser.Option.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonHandlerTests {
+
+    // builds a tree from the events, to compare with a parse that keeps nulls
+    static class TreeHandler implements JsonHandler {
+        final Deque<Object> containers = new ArrayDeque<>();
+        final Deque<String> keys = new ArrayDeque<>();
+        JsonValue result;
+
+        @SuppressWarnings("unchecked")
+        private void add(JsonValue v) {
+            Object top = containers.peek();
+            if (top == null) {
+                result = v;
+            }
+            else if (top instanceof List) {
+                ((List<JsonValue>) top).add(v);
+            }
+            else {
+                ((Map<String, JsonValue>) top).put(keys.pop(), v);
+            }
+        }
+
+        @Override public void startObject() { containers.push(new HashMap<String, JsonValue>()); }
+        @Override public void key(CharSequence key) { keys.push(key.toString()); }
+        @Override public void startArray() { containers.push(new ArrayList<JsonValue>()); }
+        @Override public void stringValue(CharSequence value) { add(new JsonValue(value.toString())); }
+        @Override public void longValue(long value) { add(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? new JsonValue((int) value) : new JsonValue(value)); }
+        @Override public void doubleValue(double value) { add(new JsonValue(value)); }
+        @Override public void bigValue(Number value) { add(value instanceof BigDecimal ? new JsonValue((BigDecimal) value) : new JsonValue((BigInteger) value)); }
+        @Override public void boolValue(boolean value) { add(value ? JsonValue.TRUE : JsonValue.FALSE); }
+        @Override public void nullValue() { add(JsonValue.NULL); }
+
+        @SuppressWarnings("unchecked")
+        @Override public void endObject() { add(new JsonValue((Map<String, JsonValue>) containers.pop())); }
+
+        @SuppressWarnings("unchecked")
+        @Override public void endArray() { add(new JsonValue((List<JsonValue>) containers.pop())); }
+    }
+
+    // records the events as text
+    static class EventHandler implements JsonHandler {
+        final StringBuilder events = new StringBuilder();
+        final List<Class<?>> stringTypes = new ArrayList<>();
+
+        @Override public void startObject() { events.append('{'); }
+        @Override public void key(CharSequence key) { stringTypes.add(key.getClass()); events.append("k:").append(key).append(' '); }
+        @Override public void endObject() { events.append("} "); }
+        @Override public void startArray() { events.append('['); }
+        @Override public void endArray() { events.append("] "); }
+        @Override public void stringValue(CharSequence value) { stringTypes.add(value.getClass()); events.append("s:").append(value).append(' '); }
+        @Override public void longValue(long value) { events.append("l:").append(value).append(' '); }
+        @Override public void doubleValue(double value) { events.append("d:").append(value).append(' '); }
+        @Override public void bigValue(Number value) { events.append("b:").append(value.getClass().getSimpleName()).append(':').append(value).append(' '); }
+        @Override public void boolValue(boolean value) { events.append(value).append(' '); }
+        @Override public void nullValue() { events.append("null "); }
+    }
+
+    private static JsonValue handled(String json, JsonParser.Option... options) throws JsonParseException {
+        TreeHandler handler = new TreeHandler();
+        new JsonParser(json, options).parse(handler);
+        return handler.result == null ? JsonValue.NULL : handler.result;
+    }
+
+    @Test
+    public void testHandlerMatchesParse() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue expected = JsonParser.parse(json, KEEP_NULLS);
+        assertEquals(expected, handled(json));
+        assertEquals(expected, handled(json, STRING_VIEWS));
+        assertEquals(expected, handled(json, STRING_VIEWS, CACHE_KEYS));
+
+        TreeHandler bytes = new TreeHandler();
+        new JsonParser(json.getBytes(StandardCharsets.UTF_8), STRING_VIEWS).parse(bytes);
+        assertEquals(expected, bytes.result);
+
+        String[] docs = {"[,1,,2,]", "{\"a\":1,}", "{\"x\":{\"a\":1,},\"b\":2}", "{\"a\":null,\"b\":[null]}", "[[],{},\"\",-0,1.50,true,false,null]",
+            "\"s\"", "42", "true", "null", "-0.0", "0x1.0P-1074", "12345678901234567890", "9223372036854775807", "-9223372036854775808",
+            "[\"caf\u00e9 \\u00e9 \\\"q\\\" \\\\ \\n \ud83d\ude00\"]", "{\"a\":[{\"b\":[[1],{\"c\":{}}]}],\"d\":2}"};
+        for (String doc : docs) {
+            assertEquals(JsonParser.parse(doc, KEEP_NULLS), handled(doc), doc);
+            assertEquals(JsonParser.parse(doc, KEEP_NULLS), handled(doc, STRING_VIEWS), doc);
+        }
+
+        String[] bad = {"{", "[1,", "{\"a\" 1}", "{\"a\":1 \"b\":2}", "{{}}", "{\"a\":}", "[nul]", "\"x", "[\"\\q\"]", "[01]", "[{\"a\":1,}]"};
+        for (String doc : bad) {
+            assertThrows(JsonParseException.class, () -> JsonParser.parse(doc), doc);
+            assertThrows(JsonParseException.class, () -> handled(doc), doc);
+            assertThrows(JsonParseException.class, () -> handled(doc, STRING_VIEWS), doc);
+        }
+    }
+
+    @Test
+    public void testEvents() throws JsonParseException {
+        String json = "{\"name\":\"n\\u0041\",\"nums\":[1,-0,1.50,2e3,12345678901234567890,0x1.0P-1],\"ok\":true,\"gone\":null}";
+        EventHandler handler = new EventHandler();
+        new JsonParser(json).parse(handler);
+        String events = handler.events.toString();
+        assertTrue(events.startsWith("{"));
+        assertTrue(events.contains("k:name s:nA "), events);
+        assertTrue(events.contains("k:nums [l:1 d:-0.0 b:BigDecimal:1.50 b:BigDecimal:2E+3 b:BigInteger:12345678901234567890 d:0.5 ] "), events);
+        assertTrue(events.contains("k:ok true "), events);
+        assertTrue(events.contains("k:gone null "), events);
+        assertTrue(events.endsWith("} "));
+        handler.stringTypes.forEach(c -> assertEquals(String.class, c));
+
+        // views are not Strings and are only valid during the call
+        handler = new EventHandler();
+        new JsonParser(json, STRING_VIEWS).parse(handler);
+        assertEquals(events, handler.events.toString());
+        handler.stringTypes.forEach(c -> assertNotEquals(String.class, c));
+
+        // only the next value is read, and whitespace gives nothing
+        handler = new EventHandler();
+        JsonParser parser = new JsonParser("[1] 2 ");
+        parser.parse(handler);
+        parser.parse(handler);
+        parser.parse(handler);
+        assertEquals("[l:1 ] l:2 ", handler.events.toString());
+
+        ByteBuffer bb = ByteBuffer.wrap("{\"a\":1}  ".getBytes(StandardCharsets.UTF_8));
+        new JsonParser(bb).parse(new EventHandler());
+        assertEquals(7, bb.position());
+
+        // events before a problem are delivered, a handler exception passes through
+        EventHandler partial = new EventHandler();
+        assertThrows(JsonParseException.class, () -> new JsonParser("[1,\"a\",{\"b\":tru}]").parse(partial));
+        assertEquals("[l:1 s:a {k:b ", partial.events.toString());
+        JsonHandler stopping = new JsonHandler() {
+            @Override
+            public void key(CharSequence key) {
+                throw new IllegalStateException(key.toString());
+            }
+        };
+        assertEquals("x", assertThrows(IllegalStateException.class, () -> new JsonParser("{\"x\":1}").parse(stopping)).getMessage());
+    }
+
+    @Test
+    public void testDepth() throws JsonParseException {
+        int deep = 100_000;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < deep; i++) {
+            sb.append(i % 2 == 0 ? "[" : "{\"k\":");
+        }
+        sb.append("1");
+        for (int i = deep - 1; i >= 0; i--) {
+            sb.append(i % 2 == 0 ? "]" : "}");
+        }
+        int[] counts = new int[2];
+        JsonHandler counting = new JsonHandler() {
+            @Override public void startObject() { counts[0]++; }
+            @Override public void startArray() { counts[1]++; }
+        };
+        new JsonParser(sb.toString()).setMaxDepth(deep).parse(counting);
+        assertEquals(deep / 2, counts[0]);
+        assertEquals(deep / 2, counts[1]);
+        assertThrows(JsonParseException.class, () -> new JsonParser(sb.toString()).parse(counting));
+    }
+}
@@ -0,0 +1,191 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.nats.json.JsonParser.Option.KEEP_NULLS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonIncrementalParserTests {
+
+    @Test
+    public void testEveryChunkSize() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue expected = JsonParser.parse(json);
+        JsonValue expectedKeepNulls = JsonParser.parse(json, KEEP_NULLS);
+
+        for (int chunk = 1; chunk <= 64; chunk++) {
+            JsonIncrementalParser p = new JsonIncrementalParser();
+            JsonIncrementalParser pkn = new JsonIncrementalParser(KEEP_NULLS);
+            for (int off = 0; off < bytes.length; off += chunk) {
+                int len = Math.min(chunk, bytes.length - off);
+                p.feed(bytes, off, len);
+                pkn.feed(bytes, off, len);
+            }
+            p.endOfInput();
+            assertTrue(p.hasValue());
+            assertEquals(expected, p.poll());
+            assertEquals(expectedKeepNulls, pkn.poll());
+            assertNull(p.poll());
+        }
+    }
+
+    @Test
+    public void testSplitInsideTokens() throws JsonParseException {
+        String s = "esc \\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u00e9\\u65E5 raw \u00e9\u65e5\uD83D\uDE00 end";
+        String json = "{\"k\u00e9y\":\"" + s + "\",\"n\":-12345678901234567890,\"d\":-1.5e3,\"t\":true,\"f\":false,\"z\":null,\"a\":[1,,2,]}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue expected = JsonParser.parse(json);
+
+        // split into two chunks at every position
+        for (int split = 0; split <= bytes.length; split++) {
+            JsonIncrementalParser p = new JsonIncrementalParser();
+            p.feed(bytes, 0, split);
+            assertEquals(split == bytes.length, p.hasValue());
+            p.feed(bytes, split, bytes.length - split);
+            assertEquals(expected, p.poll());
+            assertFalse(p.isInsideValue());
+        }
+    }
+
+    @Test
+    public void testMultipleValues() throws JsonParseException {
+        JsonIncrementalParser p = new JsonIncrementalParser();
+        p.feed("{\"a\":1}[2] \"three\"\n4".getBytes());
+        assertEquals(1, p.poll().map.get("a").i);
+        assertEquals(2, p.poll().array.get(0).i);
+        assertEquals("three", p.poll().string);
+        assertNull(p.poll()); // the number could still continue
+        assertTrue(p.isInsideValue());
+        p.feed("2 ".getBytes());
+        assertEquals(42, p.poll().i);
+        p.feed("tr".getBytes());
+        p.feed("ue null".getBytes());
+        assertEquals(JsonValue.TRUE, p.poll());
+        assertNull(p.poll());
+        p.endOfInput();
+        assertEquals(JsonValue.NULL, p.poll());
+        assertThrows(IllegalStateException.class, () -> p.feed(new byte[1]));
+        assertThrows(IllegalStateException.class, p::endOfInput);
+    }
+
+    @Test
+    public void testErrors() throws JsonParseException {
+        validateThrows("{{", "Cannot directly nest another Object or Array.");
+        validateThrows("{\"foo\":1 ]", "Expected a ',' or '}'.");
+        validateThrows("{\"foo\" 1", "Expected a ':' after a key.");
+        validateThrows("{foo:1}", "Expected a key.");
+        validateThrows("[1Z]", JsonParseException.INVALID_VALUE);
+        validateThrows("[}", JsonParseException.INVALID_VALUE);
+        validateThrows("\"u\n", "Unterminated string.");
+        validateThrows("\"\\x\"", "Illegal escape.");
+        validateThrows("\"\\uzzzz\"", "Illegal escape.");
+        validateThrows("-0x123 ", JsonParseException.INVALID_VALUE);
+        validateThrows(new byte[]{'"', (byte)0xC0, (byte)0x80, '"'}, "Invalid UTF-8 sequence.");
+        validateThrows(new byte[]{'"', (byte)0xED, (byte)0xA0, (byte)0x80, '"'}, "Invalid UTF-8 sequence.");
+        validateThrows(new byte[]{'"', (byte)0xE6, '"'}, "Invalid UTF-8 sequence.");
+
+        validateEndThrows("{", "Text must end with '}'");
+        validateEndThrows("{\"a\":1", "Text must end with '}'");
+        validateEndThrows("[\"bad\",", "Unexpected end of data.");
+        validateEndThrows("{\"a\":", "Unexpected end of data.");
+        validateEndThrows("\"u", "Unterminated string.");
+        validateEndThrows("\"\\u00", "Unterminated string.");
+        validateEndThrows("t", JsonParseException.INVALID_VALUE);
+
+        JsonIncrementalParser p = new JsonIncrementalParser();
+        assertThrows(JsonParseException.class, () -> p.feed("]".getBytes()));
+        assertThrows(IllegalStateException.class, () -> p.feed("1".getBytes()));
+    }
+
+    @Test
+    public void testSameGrammarAsJsonParser() throws JsonParseException {
+        String[] inputs = {"[1 2]", "{\"a\":1 2}", "[1 \"a\"]", "[tr ue, nu\nll]", "[-1 .5\t]", "[1 true]", "{\"a\":1 \"b\":2}"};
+        for (String json : inputs) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            JsonIncrementalParser p = new JsonIncrementalParser();
+            JsonValue expected;
+            try {
+                expected = JsonParser.parse(bytes);
+            }
+            catch (JsonParseException e) {
+                assertThrows(JsonParseException.class, () -> p.feed(bytes), json);
+                continue;
+            }
+            p.feed(bytes);
+            assertEquals(expected, p.poll(), json);
+        }
+        JsonIncrementalParser p = new JsonIncrementalParser();
+        p.feed("[1 2]".getBytes());
+        assertEquals("[12]", p.poll().toJson());
+
+        // where it is stricter, a key has to start with a quote and anything after a value has to be a value
+        assertEquals("{\"\":1}", JsonParser.parse("{a\":1}").toJson());
+        assertThrows(JsonParseException.class, () -> new JsonIncrementalParser().feed("{a\":1}".getBytes()));
+        String[][] trailing = {{"[1]]", "[1]"}, {"{\"a\":1}}", "{\"a\":1}"}, {"[1] x", "[1]"}, {"1 x", "1"}};
+        for (String[] t : trailing) {
+            assertEquals(t[1], JsonParser.parse(t[0]).toJson(), t[0]);
+            JsonIncrementalParser strict = new JsonIncrementalParser();
+            assertThrows(JsonParseException.class, () -> {
+                strict.feed(t[0].getBytes());
+                strict.endOfInput();
+            }, t[0]);
+        }
+    }
+
+    @Test
+    public void testNestingDepth() throws JsonParseException {
+        String ok = "[[{\"a\":[1]}]]";
+        JsonIncrementalParser p = new JsonIncrementalParser().setMaxDepth(4);
+        assertEquals(4, p.getMaxDepth());
+        p.feed(ok.getBytes());
+        assertEquals(JsonParser.parse(ok), p.poll());
+        validateThrows("[[{\"a\":[[1]]}]]", 4, "Maximum nesting depth of 4 exceeded.");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= JsonParser.DEFAULT_MAX_DEPTH; i++) {
+            sb.append('[');
+        }
+        validateThrows(sb.toString(), JsonParser.DEFAULT_MAX_DEPTH, "Maximum nesting depth of " + JsonParser.DEFAULT_MAX_DEPTH + " exceeded.");
+        assertThrows(IllegalArgumentException.class, () -> new JsonIncrementalParser().setMaxDepth(0));
+    }
+
+    private static void validateThrows(String json, int maxDepth, String errorText) {
+        JsonIncrementalParser p = new JsonIncrementalParser().setMaxDepth(maxDepth);
+        JsonParseException e = assertThrows(JsonParseException.class, () -> p.feed(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(errorText, e.getMessage());
+    }
+
+    private static void validateThrows(String json, String errorText) {
+        validateThrows(json.getBytes(StandardCharsets.UTF_8), errorText);
+    }
+
+    private static void validateThrows(byte[] json, String errorText) {
+        JsonParseException e = assertThrows(JsonParseException.class, () -> new JsonIncrementalParser().feed(json));
+        assertTrue(e.getMessage().contains(errorText), e.getMessage());
+    }
+
+    private static void validateEndThrows(String json, String errorText) throws JsonParseException {
+        JsonIncrementalParser p = new JsonIncrementalParser();
+        p.feed(json.getBytes(StandardCharsets.UTF_8));
+        JsonParseException e = assertThrows(JsonParseException.class, p::endOfInput);
+        assertTrue(e.getMessage().contains(errorText), e.getMessage());
+    }
+}
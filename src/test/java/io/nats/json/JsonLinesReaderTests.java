@@ -0,0 +1,204 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static io.nats.json.JsonParser.Option.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonLinesReaderTests {
+
+    private static final String LINES =
+        "{\"seq\":1,\"subject\":\"orders.new\",\"data\":\"café\"}\n"
+            + "\n"
+            + "{\"seq\":2,\"subject\":\"orders.new\",\"data\":null}\r\n"
+            + "{\"seq\":3,\"subject\":\n"
+            + "   \r\n"
+            + "[1,2,3]\n"
+            + "[4] 5\n"
+            + "\"text\"\n"
+            + "{\"seq\":4}";
+
+    private static List<JsonLine> readAll(JsonLinesReader reader) throws IOException {
+        try {
+            List<JsonLine> lines = new ArrayList<>();
+            while (reader.hasNext()) {
+                lines.add(reader.next());
+            }
+            assertThrows(NoSuchElementException.class, reader::next);
+            return lines;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private static void assertLines(List<JsonLine> lines) throws JsonParseException {
+        assertEquals(7, lines.size());
+        assertEquals(Arrays.asList(1L, 3L, 4L, 6L, 7L, 8L, 9L),
+            lines.stream().map(JsonLine::getLineNumber).collect(Collectors.toList()));
+
+        assertEquals("café", lines.get(0).getValue().map.get("data").string);
+        assertEquals(2, lines.get(1).getValueOrThrow().map.get("seq").i);
+        assertFalse(lines.get(1).getValue().map.containsKey("data"));
+
+        JsonLine bad = lines.get(2);
+        assertFalse(bad.isValid());
+        assertNull(bad.getValue());
+        assertTrue(bad.getError().getMessage().startsWith("Line 4: "), bad.getError().getMessage());
+        assertSame(bad.getError(), assertThrows(JsonParseException.class, bad::getValueOrThrow));
+
+        assertEquals(JsonParser.parse("[1,2,3]"), lines.get(3).getValue());
+        assertTrue(lines.get(4).getError().getMessage().startsWith("Line 7: ")); // data after the value
+        assertEquals("text", lines.get(5).getValue().string);
+        assertEquals(4, lines.get(6).getValue().map.get("seq").i);
+    }
+
+    @Test
+    public void testSources() throws Exception {
+        byte[] bytes = LINES.getBytes(StandardCharsets.UTF_8);
+        assertLines(readAll(new JsonLinesReader(new ByteArrayInputStream(bytes))));
+
+        ByteBuffer bb = ByteBuffer.wrap(bytes);
+        assertLines(readAll(new JsonLinesReader(bb)));
+        assertEquals(0, bb.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertLines(readAll(new JsonLinesReader(direct)));
+
+        // a stream that returns a few bytes at a time
+        assertLines(readAll(new JsonLinesReader(new Trickle(new ByteArrayInputStream(bytes)))));
+
+        Path file = Files.createTempFile("lines", ".ndjson");
+        try {
+            Files.write(file, bytes);
+            assertLines(readAll(JsonLinesReader.open(file)));
+            Files.write(file, new byte[0]);
+            assertTrue(readAll(JsonLinesReader.open(file)).isEmpty());
+        }
+        finally {
+            Files.delete(file);
+        }
+
+        assertTrue(readAll(new JsonLinesReader(new ByteArrayInputStream(new byte[0]))).isEmpty());
+        assertTrue(readAll(new JsonLinesReader(ByteBuffer.wrap("\n\r\n \n".getBytes(StandardCharsets.UTF_8)))).isEmpty());
+    }
+
+    @Test
+    public void testLongLinesAndOptions() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        List<JsonValue> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            StringBuilder line = new StringBuilder("{\"n\":").append(i).append(",\"gone\":null,\"pad\":\"");
+            for (int j = 0; j < i * 4000; j++) {
+                line.append((char) ('a' + j % 26));
+            }
+            line.append("\"}");
+            expected.add(JsonParser.parse(line.toString(), KEEP_NULLS));
+            sb.append(line).append('\n');
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (JsonParser.Option[] options : new JsonParser.Option[][]{{KEEP_NULLS}, {KEEP_NULLS, LAZY, CACHE_KEYS}}) {
+            List<JsonLine> lines = readAll(new JsonLinesReader(new Trickle(new ByteArrayInputStream(bytes)), options));
+            assertEquals(expected, lines.stream().map(JsonLine::getValue).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 2000; i++) {
+            sb.append(i % 97 == 0 ? "{\"seq\":" + i + ",}}" : "{\"seq\":" + i + ",\"subject\":\"s." + i + "\"}").append('\n');
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        List<String> expected = readAll(new JsonLinesReader(ByteBuffer.wrap(bytes))).stream()
+            .map(JsonLine::toString).collect(Collectors.toList());
+        assertEquals(2000, expected.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> inOrder = readAll(new JsonLinesReader(new ByteArrayInputStream(bytes)).parallel(executor, 16, true))
+                .stream().map(JsonLine::toString).collect(Collectors.toList());
+            assertEquals(expected, inOrder);
+
+            List<String> mapped = readAll(new JsonLinesReader(ByteBuffer.wrap(bytes)).parallel(executor, 3, true))
+                .stream().map(JsonLine::toString).collect(Collectors.toList());
+            assertEquals(expected, mapped);
+
+            List<String> anyOrder = readAll(new JsonLinesReader(new ByteArrayInputStream(bytes)).parallel(executor, 16, false))
+                .stream().map(JsonLine::toString).sorted().collect(Collectors.toList());
+            assertEquals(expected.stream().sorted().collect(Collectors.toList()), anyOrder);
+
+            JsonLinesReader reader = new JsonLinesReader(ByteBuffer.wrap(bytes));
+            reader.next();
+            assertThrows(IllegalStateException.class, () -> reader.parallel(executor, 4, true));
+            assertThrows(IllegalArgumentException.class, () -> new JsonLinesReader(ByteBuffer.wrap(bytes)).parallel(executor, 0, true));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreams() throws Exception {
+        byte[] bytes = LINES.getBytes(StandardCharsets.UTF_8);
+        List<Long> malformed = new ArrayList<>();
+        List<JsonValue> values;
+        try (JsonLinesReader reader = new JsonLinesReader(new ByteArrayInputStream(bytes))) {
+            values = reader.values(line -> malformed.add(line.getLineNumber())).collect(Collectors.toList());
+        }
+        assertEquals(5, values.size());
+        assertEquals(Arrays.asList(4L, 7L), malformed);
+
+        boolean[] closed = new boolean[1];
+        InputStream in = new ByteArrayInputStream(bytes) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        try (java.util.stream.Stream<JsonLine> lines = new JsonLinesReader(in).lines()) {
+            assertEquals(7, lines.count());
+        }
+        assertTrue(closed[0]);
+    }
+
+    static class Trickle extends FilterInputStream {
+        Trickle(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 7));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.nats.json.JsonParser.Option.KEEP_NULLS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonParserPoolTests {
+
+    @Test
+    public void testAcquireRelease() throws JsonParseException {
+        JsonParserPool pool = new JsonParserPool(2);
+        assertEquals(0, pool.idleCount());
+
+        JsonParser p1 = pool.acquire();
+        JsonParser p2 = pool.acquire();
+        JsonParser p3 = pool.acquire();
+        assertNotSame(p1, p2);
+        assertNotSame(p2, p3);
+
+        pool.release(p1);
+        pool.release(p2);
+        pool.release(p3); // pool is full, dropped
+        pool.release(null);
+        assertEquals(2, pool.idleCount());
+
+        JsonParser a = pool.acquire();
+        JsonParser b = pool.acquire();
+        assertTrue((a == p1 && b == p2) || (a == p2 && b == p1));
+        assertEquals(0, pool.idleCount());
+
+        // a released parser no longer refers to its last input
+        a.reset("[1,2,3]");
+        pool.release(a);
+        assertSame(JsonValue.NULL, pool.acquire().parse());
+
+        assertThrows(IllegalArgumentException.class, () -> new JsonParserPool(0));
+        assertSame(JsonParserPool.getDefault(), JsonParserPool.getDefault());
+    }
+
+    @Test
+    public void testParse() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue expected = JsonParser.parse(json);
+        JsonParserPool pool = new JsonParserPool();
+
+        assertEquals(expected, pool.parse(json));
+        assertEquals(expected, pool.parse(json.toCharArray()));
+        assertEquals(expected, pool.parse(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(expected, pool.parse(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(1, pool.parse("{\"a\":null}", KEEP_NULLS).map.size());
+        assertEquals(1, pool.idleCount());
+
+        // a failed parse still returns the parser
+        assertThrows(JsonParseException.class, () -> pool.parse("{\"a\""));
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue expected = JsonParser.parse(json);
+        JsonParserPool pool = new JsonParserPool(4);
+
+        ExecutorService es = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(es.submit(() -> {
+                    for (int x = 0; x < 200; x++) {
+                        if (!expected.equals(pool.parse(json))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> f : futures) {
+                assertTrue(f.get());
+            }
+        }
+        finally {
+            es.shutdown();
+        }
+        assertTrue(pool.idleCount() <= 4);
+    }
+}
@@ -18,14 +18,22 @@ import io.ResourceUtils;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Test;
 
+import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
 
 import static io.nats.json.Encoding.jsonEncode;
 import static io.nats.json.JsonParseException.INVALID_VALUE;
+import static io.nats.json.JsonParser.DEFAULT_MAX_DEPTH;
 import static io.nats.json.JsonParser.Option.KEEP_NULLS;
 import static io.nats.json.JsonParser.parse;
 import static io.nats.json.JsonParser.parseUnchecked;
@@ -407,6 +415,9 @@ public final class JsonParsingTests {
         String json = "{}";
         new JsonParser(json.toCharArray());
         new JsonParser(json.toCharArray(), KEEP_NULLS);
+        new JsonParser(json);
+        new JsonParser(json, KEEP_NULLS);
+        new JsonParser(json, 0, KEEP_NULLS);
         parse(json.toCharArray());
         parse(json.toCharArray(), 0);
         parse(json.toCharArray(), KEEP_NULLS);
@@ -444,6 +455,311 @@ public final class JsonParsingTests {
         printFormatted(",[,]zzz"); // BRANCH COVERAGE
     }
 
+    @Test
+    public void testPathParsing() throws IOException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        String unicode = "{\"s\":\"a\u00e9\u4e2d\ud83d\ude00z\",\"n\":[1,-2.5,true,null]}";
+        Path file = Files.createTempFile("snapshot", ".json");
+        try {
+            Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+            JsonValue expected = parse(json);
+            assertEquals(expected, parse(file));
+            assertEquals(expected, parseUnchecked(file));
+            assertEquals(parse(json, KEEP_NULLS), parseUnchecked(file, KEEP_NULLS));
+            assertEquals(expected, parse(file, JsonParser.Option.LAZY));
+
+            // larger files are mapped in segments, a value may span segments
+            for (int segmentSize : new int[]{1, 2, 3, 7, 64, 4096}) {
+                assertEquals(expected, JsonParser.parse(file, segmentSize), "segment " + segmentSize);
+                assertEquals(expected, JsonParser.parse(file, segmentSize, JsonParser.Option.LAZY), "segment " + segmentSize);
+            }
+            Files.write(file, unicode.getBytes(StandardCharsets.UTF_8));
+            for (int segmentSize = 1; segmentSize < 12; segmentSize++) {
+                assertEquals(parse(unicode), JsonParser.parse(file, segmentSize), "segment " + segmentSize);
+            }
+
+            Files.write(file, "  ".getBytes(StandardCharsets.UTF_8));
+            assertEquals(JsonValue.NULL, parse(file));
+            Files.write(file, new byte[0]);
+            assertEquals(JsonValue.NULL, parse(file));
+            assertEquals(JsonValue.NULL, JsonParser.parse(file, 1));
+
+            Files.write(file, "{\"a\":[1,2}".getBytes(StandardCharsets.UTF_8));
+            assertThrows(JsonParseException.class, () -> parse(file));
+            assertThrows(JsonParseException.class, () -> JsonParser.parse(file, 4));
+            assertThrows(RuntimeException.class, () -> parseUnchecked(file));
+        }
+        finally {
+            Files.delete(file);
+        }
+        assertThrows(NoSuchFileException.class, () -> parse(file));
+    }
+
+    @Test
+    public void testConcatenatedDocuments() throws JsonParseException {
+        String packed = " {\"a\":1}[2]\"three\" 4 -5.5e1\ntrue{}false null\"é\"[] 7";
+        List<JsonValue> expected = Arrays.asList(parse("{\"a\":1}"), parse("[2]"), new JsonValue("three"),
+            new JsonValue(4), parse("-5.5e1"), JsonValue.TRUE, parse("{}"), JsonValue.FALSE, JsonValue.NULL,
+            new JsonValue("é"), parse("[]"), new JsonValue(7));
+
+        // one parser, parse called repeatedly
+        JsonParser[] parsers = {new JsonParser(packed), new JsonParser(packed.toCharArray()),
+            new JsonParser(packed.getBytes(StandardCharsets.UTF_8)), new JsonParser(ByteBuffer.wrap(packed.getBytes(StandardCharsets.UTF_8)))};
+        for (JsonParser parser : parsers) {
+            List<JsonValue> values = new ArrayList<>();
+            while (parser.hasNext()) {
+                values.add(parser.parse());
+            }
+            assertEquals(expected, values);
+            assertEquals(JsonValue.NULL, parser.parse());
+        }
+
+        // a new parse from the end index of the last one
+        char[] chars = packed.toCharArray();
+        byte[] bytes = packed.getBytes(StandardCharsets.UTF_8);
+        List<JsonValue> fromChars = new ArrayList<>();
+        List<JsonValue> fromBytes = new ArrayList<>();
+        int c = 0;
+        int b = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            JsonParser cp = new JsonParser(chars, c);
+            fromChars.add(cp.parse());
+            c = (int) cp.getNextIndex();
+            JsonParser bp = new JsonParser(bytes, b);
+            fromBytes.add(bp.parse());
+            b = (int) bp.getNextIndex();
+        }
+        assertEquals(expected, fromChars);
+        assertEquals(expected, fromBytes);
+        assertEquals(chars.length, c);
+        assertEquals(bytes.length, b);
+
+        JsonParser parser = new JsonParser("{\"a\":1} [2]");
+        parser.parse();
+        assertEquals(7, parser.getNextIndex());
+        ByteBuffer slice = ByteBuffer.wrap(("xx" + packed).getBytes(StandardCharsets.UTF_8), 2, 10).slice();
+        parser = new JsonParser(slice);
+        parser.parse();
+        assertEquals(8, parser.getNextIndex());
+        assertEquals(8, slice.position());
+    }
+
+    @Test
+    public void testByteBufferParsing() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue expected = parse(json);
+
+        int docEnd = json.lastIndexOf('}') + 1; // the file is ASCII and ends with a newline
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        assertEquals(expected, parse(heap));
+        assertEquals(docEnd, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(parse(json, KEEP_NULLS), parse(direct, KEEP_NULLS));
+        assertEquals(docEnd, direct.position());
+
+        direct.rewind();
+        assertEquals(expected, parse(direct.asReadOnlyBuffer()));
+        assertEquals(expected, parseUnchecked(direct));
+        direct.rewind();
+        assertEquals(expected, parseUnchecked(direct, (JsonParser.Option[])null));
+
+        // slices have an array offset, reading stops at the limit and the position is left after the document
+        byte[] packed = "xx{\"a\":1} [2]  \"three\"{\"b\":".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer slice = ByteBuffer.wrap(packed, 2, packed.length - 2).slice();
+        slice.limit(slice.limit() - 5);
+        assertEquals(1, parse(slice).map.get("a").i);
+        assertEquals(7, slice.position());
+        assertEquals(2, parse(slice).array.get(0).i);
+        assertEquals("three", parse(slice).string);
+        assertFalse(slice.hasRemaining());
+        assertEquals(JsonValue.NULL, parse(slice));
+
+        // failure leaves the position alone
+        ByteBuffer bad = ByteBuffer.allocateDirect(4);
+        bad.put("[1,".getBytes()).flip();
+        assertThrows(JsonParseException.class, () -> parse(bad));
+        assertEquals(0, bad.position());
+        assertThrows(RuntimeException.class, () -> parseUnchecked(bad));
+
+        assertEquals(JsonValue.NULL, parse((ByteBuffer)null));
+        assertEquals(JsonValue.NULL, new JsonParser((ByteBuffer)null).parse());
+        assertEquals(JsonValue.NULL, parse(ByteBuffer.allocate(0)));
+    }
+
+    @Test
+    public void testStreamParsing() throws IOException {
+        // larger than the stream buffer and with multibyte characters
+        ArrayBuilder ab = ArrayBuilder.instance();
+        JsonValue streamInfo = parse(ResourceUtils.resourceAsString("stream-info.json"));
+        for (int i = 0; i < 10; i++) {
+            ab.add(streamInfo);
+            for (String u : UTF_STRINGS) {
+                ab.add(u);
+            }
+        }
+        String json = ab.toJson();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertTrue(bytes.length > 20_000);
+        JsonValue expected = parse(json);
+
+        assertEquals(expected, parse(new ByteArrayInputStream(bytes)));
+        assertEquals(expected, parse(new ByteArrayInputStream(bytes), KEEP_NULLS));
+        assertEquals(expected, parse(new TrickleInputStream(bytes)));
+        assertEquals(expected, parse(new StringReader(json)));
+        assertEquals(expected, parse(new StringReader(json), KEEP_NULLS));
+        assertEquals(expected, parse(Channels.newChannel(new TrickleInputStream(bytes))));
+        assertEquals(expected, parse(Channels.newChannel(new ByteArrayInputStream(bytes)), KEEP_NULLS));
+        assertEquals(expected, parseUnchecked(new ByteArrayInputStream(bytes)));
+        assertEquals(expected, parseUnchecked(new ByteArrayInputStream(bytes), KEEP_NULLS));
+        assertEquals(expected, parseUnchecked(new StringReader(json)));
+        assertEquals(expected, parseUnchecked(new StringReader(json), KEEP_NULLS));
+        assertEquals(expected, parseUnchecked(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        assertEquals(expected, parseUnchecked(Channels.newChannel(new ByteArrayInputStream(bytes)), KEEP_NULLS));
+
+        assertEquals(JsonValue.NULL, parse(new ByteArrayInputStream(new byte[0])));
+        assertEquals(JsonValue.NULL, parse(new StringReader("  ")));
+
+        // parse errors are JsonParseException, read errors are passed through
+        assertThrows(JsonParseException.class, () -> parse(new ByteArrayInputStream("[1,".getBytes())));
+        assertThrows(JsonParseException.class, () -> parse(new StringReader("{\"a\"")));
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("read failed");
+            }
+        };
+        IOException ioe = assertThrows(IOException.class, () -> parse(failing));
+        assertFalse(ioe instanceof JsonParseException);
+        assertEquals("read failed", ioe.getMessage());
+        RuntimeException re = assertThrows(RuntimeException.class, () -> parseUnchecked(failing));
+        assertEquals(ioe.getClass(), re.getCause().getClass());
+    }
+
+    // returns at most 3 bytes per read so that refills land inside every kind of token
+    static class TrickleInputStream extends ByteArrayInputStream {
+        TrickleInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 3));
+        }
+    }
+
+    @Test
+    public void testCharSequenceParsing() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue expected = parse(json.toCharArray());
+        assertEquals(expected, parse(json));
+        assertEquals(expected, new JsonParser(new StringBuilder(json)).parse());
+        assertEquals(parse(json.toCharArray(), KEEP_NULLS), new JsonParser(new StringBuilder(json), KEEP_NULLS).parse());
+        assertEquals(expected, new JsonParser("INFO " + json, 5).parse());
+        assertEquals(JsonValue.NULL, new JsonParser((CharSequence)null).parse());
+        String escaped = "\"\u00e9" + jsonEncode("\u65e5") + "\uD83D\uDE00\"";
+        assertEquals("\u00e9\u65e5\uD83D\uDE00", parse(escaped).string);
+    }
+
+    @Test
+    public void testStringsWithAndWithoutEscapes() throws IOException {
+        String[] strings = {"", "plain", "\\tab\\tmiddle", "\\\"leading", "trailing\\n", "caf\u00e9 au lait", "\u65e5",
+            "ascii then \uD83D\uDE00 then ascii"};
+        for (String s : strings) {
+            String json = "{\"" + s + "\":\"" + s + "\"}";
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            JsonValue expected = parse(json.toCharArray());
+            assertEquals(1, expected.map.size());
+            assertEquals(expected, parse(json));
+            assertEquals(expected, parse(bytes));
+            assertEquals(expected, parse(ByteBuffer.wrap(bytes)));
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            assertEquals(expected, parse(direct));
+            assertEquals(expected, parse(new TrickleInputStream(bytes)));
+            assertEquals(expected, parse(new StringReader(json)));
+        }
+
+        for (String json : new String[]{"\"abc", "\"ab\nc\"", "\"ab\rc\"", "\"ab\u0000c\""}) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertThrows(JsonParseException.class, () -> parse(json), json);
+            assertThrows(JsonParseException.class, () -> parse(json.toCharArray()), json);
+            assertThrows(JsonParseException.class, () -> parse(bytes), json);
+            assertThrows(JsonParseException.class, () -> parse(new TrickleInputStream(bytes)), json);
+        }
+    }
+
+    @Test
+    public void testStringScanningAtEveryPosition() throws JsonParseException {
+        String[] specials = {"\\\"", "\\n", "\t", "\u00e9", "\uD83D\uDE00"};
+        StringBuilder plain = new StringBuilder();
+        for (int len = 0; len < 40; len++) {
+            String s = plain.toString();
+            assertEquals(s, parse(("\"" + s + "\"").getBytes(StandardCharsets.UTF_8)).string);
+            for (int at = 0; at <= len; at++) {
+                for (String special : specials) {
+                    String json = "[\"" + s.substring(0, at) + special + s.substring(at) + "\"]";
+                    assertEquals(parse(json.toCharArray()), parse(json.getBytes(StandardCharsets.UTF_8)), json);
+                }
+            }
+            plain.append((char)('a' + len % 26));
+        }
+
+        Random r = new Random(15);
+        byte[] word = new byte[8];
+        for (int x = 0; x < 100_000; x++) {
+            r.nextBytes(word);
+            if (x % 2 == 0) {
+                for (int i = 0; i < 8; i++) {
+                    word[i] = (byte)(' ' + Math.abs(word[i] % 95)); // printable only, mostly plain
+                }
+            }
+            boolean expected = false;
+            for (byte b : word) {
+                expected |= b < ' ' || b == '"' || b == '\\';
+            }
+            assertEquals(expected, Utf8JsonInput.hasSpecialByte(ByteBuffer.wrap(word).getLong()));
+        }
+
+    }
+
+    @Test
+    public void testStringRuns() throws Exception {
+        // plain runs of every length up to well past a word, ended by every kind of special byte, from every kind of buffer
+        StringBuilder sb = new StringBuilder("[");
+        String[] enders = {"", "\\n", "\\\"", "\u00e9", "\u20ac", "\ud83d\ude00"};
+        for (int len = 0; len < 40; len++) {
+            for (String ender : enders) {
+                sb.append('"');
+                for (int i = 0; i < len; i++) {
+                    sb.append((char)('a' + (len + i) % 26));
+                }
+                sb.append(ender).append("z\",");
+            }
+        }
+        String json = sb.append("0]").toString();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue expected = parse(json.toCharArray());
+        assertEquals(enders.length * 40 + 1, expected.array.size());
+        assertEquals(expected, parse(bytes));
+        assertEquals(expected, parse(ByteBuffer.wrap(bytes)));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        direct.put(bytes).flip();
+        assertEquals(expected, parse(direct));
+        Path file = Files.createTempFile("strings", ".json");
+        try {
+            Files.write(file, bytes);
+            assertEquals(expected, parse(file));
+            assertEquals(expected, JsonParser.parse(file, 100));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
     private void validateThrows(String json, String errorText) {
         // also provides coverage for every constructor
         validateThrowError(errorText, assertThrows(JsonParseException.class, () -> parse(json.toCharArray())));
@@ -468,12 +784,196 @@ public final class JsonParsingTests {
         validateThrowError(errorText, assertThrows(RuntimeException.class, () -> parseUnchecked(json.getBytes(), 0)));
         validateThrowError(errorText, assertThrows(RuntimeException.class, () -> parseUnchecked(json.getBytes(), KEEP_NULLS)));
         validateThrowError(errorText, assertThrows(RuntimeException.class, () -> parseUnchecked(json.getBytes(), 0, KEEP_NULLS)));
+        validateThrowError(errorText, assertThrows(JsonParseException.class, () -> JsonParser.validate(json.toCharArray())));
+        validateThrowError(errorText, assertThrows(JsonParseException.class, () -> JsonParser.validate(json.getBytes())));
+        validateThrowError(errorText, assertThrows(JsonParseException.class, () -> JsonParser.validate(ByteBuffer.wrap(json.getBytes()))));
     }
 
     private static void validateThrowError(String errorText, Exception e) {
         assertTrue(e.getMessage().contains(errorText));
     }
 
+    @Test
+    public void testNestingDepth() throws Exception {
+        // deep nesting does not use the stack, even on a thread with a small one
+        int deep = 200_000;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < deep; i++) {
+            sb.append(i % 2 == 0 ? "[" : "{\"k\":");
+        }
+        sb.append('1');
+        for (int i = deep - 1; i >= 0; i--) {
+            sb.append(i % 2 == 0 ? "]" : "}");
+        }
+        String json = sb.toString();
+        JsonValue[] result = new JsonValue[1];
+        Throwable[] error = new Throwable[1];
+        Thread t = new Thread(null, () -> {
+            try {
+                new JsonParser(json).setMaxDepth(deep).validate();
+                result[0] = new JsonParser(json).setMaxDepth(deep).parse();
+            }
+            catch (Throwable e) {
+                error[0] = e;
+            }
+        }, "small-stack", 128 * 1024);
+        t.start();
+        t.join();
+        assertNull(error[0]);
+        JsonValue v = result[0];
+        int depth = 0;
+        while (v.type != JsonValueType.INTEGER) {
+            depth++;
+            v = v.type == JsonValueType.ARRAY ? v.array.get(0) : v.map.get("k");
+        }
+        assertEquals(deep, depth);
+
+        // the default max depth fails fast, for every way of reading
+        String ok = nested(DEFAULT_MAX_DEPTH);
+        String tooDeep = nested(DEFAULT_MAX_DEPTH + 1);
+        String message = "Maximum nesting depth of " + DEFAULT_MAX_DEPTH + " exceeded.";
+        parse(ok);
+        JsonParser.validate(ok.toCharArray());
+        parse(ok, JsonParser.Option.LAZY);
+        parse(ok, JsonProjection.of("a"));
+        assertEquals(message, assertThrows(JsonParseException.class, () -> parse(tooDeep)).getMessage());
+        assertEquals(message, assertThrows(JsonParseException.class, () -> parse(tooDeep.getBytes(StandardCharsets.UTF_8))).getMessage());
+        assertEquals(message, assertThrows(JsonParseException.class, () -> JsonParser.validate(tooDeep.toCharArray())).getMessage());
+        assertEquals(message, assertThrows(JsonParseException.class, () -> parse(tooDeep, JsonParser.Option.LAZY)).getMessage());
+        assertEquals(message, assertThrows(JsonParseException.class, () -> parse(tooDeep, JsonProjection.of("a"))).getMessage());
+
+        // a JsonReader counts the containers it is in, also when it reads a whole value from inside them
+        readTokens(ok);
+        assertEquals(message, assertThrows(JsonParseException.class, () -> readTokens(tooDeep)).getMessage());
+        assertEquals(parse(ok).map.get("a").array.get(0), readValueAt(ok, 3));
+        assertEquals(message, assertThrows(JsonParseException.class, () -> readValueAt(tooDeep, 3)).getMessage());
+
+        JsonParser parser = new JsonParser("[[1]]").setMaxDepth(1);
+        assertEquals(1, parser.getMaxDepth());
+        assertThrows(JsonParseException.class, parser::parse);
+        assertEquals(1, parser.reset("[[1]]").getMaxDepth());
+        assertThrows(JsonParseException.class, parser::validate);
+        assertEquals(parse("[1]"), parser.reset("[1]").parse());
+        assertThrows(IllegalArgumentException.class, () -> parser.setMaxDepth(0));
+
+        JsonParserPool pool = new JsonParserPool(1);
+        JsonParser pooled = pool.acquire().setMaxDepth(3);
+        pool.release(pooled);
+        assertEquals(DEFAULT_MAX_DEPTH, pool.acquire().getMaxDepth());
+
+        // the grammar is unchanged
+        assertEquals(parse("{\"x\":{\"a\":1}}"), parse("{\"x\":{\"a\":1,},\"b\":2}"));
+        assertEquals(parse("[1,2,[3]]"), parse("[,1,,2,[,3,],]"));
+        assertEquals(parse("{\"a\":[]}"), parse("{\"a\":[],\"b\":null}"));
+        assertThrows(JsonParseException.class, () -> parse("[{\"a\":1,}]"));
+        assertThrows(JsonParseException.class, () -> parse("{{\"a\":1}}"));
+        assertThrows(JsonParseException.class, () -> parse("[[1,2]"));
+        assertThrows(JsonParseException.class, () -> parse("{\"a\":{\"b\":1}"));
+        assertThrows(JsonParseException.class, () -> parse("{\"a\":[1] \"b\":2}"));
+    }
+
+    private static void readTokens(String json) throws JsonParseException {
+        JsonReader reader = new JsonReader(json);
+        while (reader.nextToken() != null) {
+            // just walking
+        }
+    }
+
+    // the value of the container that starts with the given number of starting tokens
+    private static JsonValue readValueAt(String json, int starts) throws JsonParseException {
+        JsonReader reader = new JsonReader(json);
+        while (true) {
+            JsonToken token = reader.nextToken();
+            if ((token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) && --starts == 0) {
+                return reader.readValue();
+            }
+        }
+    }
+
+    private static String nested(int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append(i % 2 == 0 ? "{\"a\":" : "[");
+        }
+        sb.append('1');
+        for (int i = depth - 1; i >= 0; i--) {
+            sb.append(i % 2 == 0 ? "}" : "]");
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testValidate() throws JsonParseException {
+        String[] inputs = {"", "  ", "{}", "[]", "{\"a\":1}", "[,1,,2,]", "{\"a\":1,}", "{\"a\":null}", "\"s\"", "42", "-0", "1.5e3",
+            "true", "false", "null", "12345678901234567890", "0x1.0P-1074", "-24.42E7345", "00.001", "[\"caf\u00e9 \\u00e9 \\n\"]",
+            "{} trailing", "1 2", "{\"a\":[1,{\"b\":\"\\\"\"}]}",
+            "{", "[1,", "{\"a\" 1}", "{\"a\":1 \"b\":2}", "{{}}", "{\"a\":}", "[nul]", "[tru]", "\"x", "\"a\nb\"", "[\"\\q\"]",
+            "[\"\\u12g4\"]", "00", "[01]", "-", "NaN", "-Infinity", "[1.2.3]", "{\"a\":1}}", "[}", "]", "[1 2]", "tr ue"};
+        for (String json : inputs) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            boolean valid;
+            try {
+                parse(json);
+                valid = true;
+            }
+            catch (JsonParseException e) {
+                valid = false;
+            }
+            if (valid) {
+                JsonParser.validate(json.toCharArray());
+                JsonParser.validate(bytes);
+                JsonParser.validate(ByteBuffer.wrap(bytes));
+            }
+            else {
+                JsonParseException e = assertThrows(JsonParseException.class, () -> JsonParser.validate(json.toCharArray()), json);
+                assertEquals(assertThrows(JsonParseException.class, () -> parse(json)).getMessage(), e.getMessage(), json);
+                assertTrue(e.getOffset() >= 0 && e.getOffset() <= json.length(), json);
+                assertThrows(JsonParseException.class, () -> JsonParser.validate(bytes), json);
+                assertThrows(JsonParseException.class, () -> JsonParser.validate(ByteBuffer.wrap(bytes)), json);
+            }
+        }
+        JsonParser.validate(ResourceUtils.resourceAsString("stream-info.json").getBytes(StandardCharsets.UTF_8));
+        JsonParser.validate((char[])null);
+        JsonParser.validate((byte[])null);
+        JsonParser.validate((ByteBuffer)null);
+
+        // the offset is where the problem was found, in chars or in bytes
+        assertEquals(8, assertThrows(JsonParseException.class, () -> JsonParser.validate("{\"a\":1 \"b\":2}".toCharArray())).getOffset());
+        assertEquals(7, assertThrows(JsonParseException.class, () -> JsonParser.validate("[\"\u00e9\",01]".toCharArray())).getOffset());
+        assertEquals(8, assertThrows(JsonParseException.class, () -> JsonParser.validate("[\"\u00e9\",01]".getBytes(StandardCharsets.UTF_8))).getOffset());
+        assertEquals(-1, new JsonParseException("x").getOffset());
+        assertEquals(3, assertThrows(JsonParseException.class, () -> JsonParser.validate(new byte[]{'"', 'a', (byte)0xC0, (byte)0x80, '"'})).getOffset());
+
+        // a buffer's position is not changed
+        ByteBuffer bb = ByteBuffer.wrap("xx[1,2]".getBytes(StandardCharsets.UTF_8));
+        bb.position(2);
+        JsonParser.validate(bb);
+        assertEquals(2, bb.position());
+        ByteBuffer badSlice = ByteBuffer.wrap("xx[1,\"\\q\"]".getBytes(StandardCharsets.UTF_8), 2, 8).slice();
+        assertEquals(6, assertThrows(JsonParseException.class, () -> JsonParser.validate(badSlice)).getOffset());
+
+        // a reused parser validates any number of documents without allocating for their contents
+        byte[] doc = ResourceUtils.resourceAsString("stream-info.json").getBytes(StandardCharsets.UTF_8);
+        JsonParser parser = new JsonParser(doc);
+        parser.validate();
+        java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean)bean;
+            long id = Thread.currentThread().getId();
+            long before = sun.getThreadAllocatedBytes(id);
+            for (int i = 0; i < 100; i++) {
+                parser.reset(doc).validate();
+            }
+            long validating = sun.getThreadAllocatedBytes(id) - before;
+            before = sun.getThreadAllocatedBytes(id);
+            for (int i = 0; i < 100; i++) {
+                parser.reset(doc).parse();
+            }
+            long parsing = sun.getThreadAllocatedBytes(id) - before;
+            assertTrue(validating * 20 < parsing, validating + " " + parsing);
+        }
+    }
+
     @Test
     public void testNumberParsing() throws JsonParseException {
         assertEquals(JsonValueType.INTEGER, parse("1").type);
@@ -529,6 +1029,47 @@ public final class JsonParsingTests {
         assertTrue(e.getMessage().contains(INVALID_VALUE));
     }
 
+    @Test
+    public void testNumberParsingKeepsRepresentation() throws JsonParseException {
+        String[] decimals = {"1.50", "0.000", "1e5", "1E+5", "1e-5", "12.5E-3", "0e7", "-1.5", "0.5",
+            "922337203685477580.7", "-922337203685477580.8", "9223372036854775807.5", "1.0e99999", "1e-99999", "1.", "1.e5"};
+        for (String s : decimals) {
+            assertNumber(new JsonValue(new BigDecimal(s)), s);
+        }
+        assertNumber(new JsonValue(-0.0), "-0e5");
+        assertNumber(new JsonValue(0), "0");
+        assertNumber(new JsonValue(Long.MAX_VALUE), Long.toString(Long.MAX_VALUE));
+        assertNumber(new JsonValue(Long.MIN_VALUE), Long.toString(Long.MIN_VALUE));
+        assertNumber(new JsonValue(new BigInteger("9223372036854775808")), "9223372036854775808");
+        assertNumber(new JsonValue(new BigInteger("-9223372036854775809")), "-9223372036854775809");
+        assertNumber(new JsonValue(new BigDecimal("01.5")), "01.5");
+
+        Random r = new Random(8);
+        for (int x = 0; x < 1000; x++) {
+            long l = r.nextLong() >> r.nextInt(64);
+            assertNumber(l == (int)l ? new JsonValue((int)l) : new JsonValue(l), Long.toString(l));
+            String d = l + "." + Math.abs(r.nextInt(100000)) + (x % 3 == 0 ? "e" + (r.nextInt(40) - 20) : "");
+            assertNumber(new JsonValue(new BigDecimal(d)), d);
+        }
+
+        for (String s : new String[]{"01", "-01", "1e", "1e+", "--1", "1-"}) {
+            assertThrows(JsonParseException.class, () -> parse(s), s);
+        }
+    }
+
+    private static void assertNumber(JsonValue expected, String text) throws JsonParseException {
+        JsonValue v = parse("[" + text + "]").array.get(0);
+        assertEquals(expected, v, text);
+        assertEquals(expected.type, v.type, text);
+        assertEquals(expected.toString(), v.toString(), text);
+        assertEquals(expected, parse(text.getBytes(StandardCharsets.UTF_8)), text);
+
+        JsonIncrementalParser incremental = new JsonIncrementalParser();
+        incremental.feed(text.getBytes(StandardCharsets.UTF_8));
+        incremental.endOfInput();
+        assertEquals(expected, incremental.poll(), text);
+    }
+
     @Test
     public void testValueUtilsInstanceDuration() {
         JsonValue v = JsonValue.instance(Duration.ofSeconds(1));
@@ -872,7 +1413,7 @@ public final class JsonParsingTests {
     }
 
     @Test
-    public void testMapOrder() {
+    public void testMapOrder() throws JsonParseException {
         Map<String, JsonValue> map = new HashMap<>();
         map.put("key1", new JsonValue("value1"));
         map.put("key2", new JsonValue("value2"));
@@ -912,5 +1453,54 @@ public final class JsonParsingTests {
         assertThrows(IllegalStateException.class, () -> new JsonValue("not a map").addMapOrder("key"));
         assertThrows(IllegalStateException.class, () -> new JsonValue("not a map").setMapOrder("key"));
         assertThrows(IllegalStateException.class, () -> new JsonValue("not a map").setMapOrder(Arrays.asList("key", "another")));
+
+        // only maps get their own order list, everything else shares the empty one
+        JsonValue parsed = parse("{\"a\":[\"s\",2.5,true,null,[]],\"b\":{}}", KEEP_NULLS);
+        assertNotSame(parsed.mapOrder, parsed.map.get("b").mapOrder);
+        List<String> shared = new JsonValue("not a map").mapOrder;
+        assertTrue(shared.isEmpty());
+        assertSame(shared, parsed.map.get("a").mapOrder);
+        for (JsonValue v : parsed.map.get("a").array) {
+            assertSame(shared, v.mapOrder);
+        }
+        assertSame(shared, JsonValue.NULL.mapOrder);
+        assertSame(shared, JsonValue.TRUE.mapOrder);
+        assertSame(shared, JsonValue.EMPTY_ARRAY.mapOrder);
+        assertThrows(UnsupportedOperationException.class, () -> shared.add("key"));
+    }
+
+    @Test
+    public void testReset() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue expected = parse(json);
+        JsonValue expectedNulls = parse("{\"a\":null}", KEEP_NULLS);
+
+        JsonParser parser = new JsonParser("[1]");
+        assertEquals(1, parser.parse().array.size());
+        assertEquals(expected, parser.reset(json).parse());
+        assertEquals(expected, parser.reset(json.toCharArray()).parse());
+        assertEquals(expected, parser.reset(json.getBytes(StandardCharsets.UTF_8)).parse());
+        assertEquals(expected, parser.reset(("  " + json).getBytes(StandardCharsets.UTF_8), 2).parse());
+        assertEquals(expected, parser.reset(("  " + json).toCharArray(), 2).parse());
+        assertEquals(expected, parser.reset("  " + json, 2).parse());
+
+        // options are per reset, not sticky
+        assertEquals(expectedNulls, parser.reset("{\"a\":null}", KEEP_NULLS).parse());
+        assertEquals(0, parser.reset("{\"a\":null}").parse().map.size());
+
+        ByteBuffer bb = ByteBuffer.wrap("{\"x\":1} {\"x\":2}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, parser.reset(bb).parse().map.get("x").i);
+        assertEquals(2, parser.reset(bb).parse().map.get("x").i);
+        assertFalse(bb.hasRemaining());
+
+        // a reset to a non-buffer input no longer moves the buffer
+        bb.position(0);
+        parser.reset("{}").parse();
+        assertEquals(0, bb.position());
+
+        assertThrows(JsonParseException.class, () -> parser.reset("{").parse());
+        assertEquals(expected, parser.reset(json).parse());
+        assertSame(JsonValue.NULL, parser.reset((String)null).parse());
+        assertThrows(IllegalArgumentException.class, () -> parser.reset("{}", -1));
     }
 }
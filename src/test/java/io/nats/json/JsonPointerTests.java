@@ -0,0 +1,92 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonPointerTests {
+
+    @Test
+    public void testExtract() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue full = JsonParser.parse(json);
+
+        assertEquals("io.nats.jetstream.api.v1.stream_create_response", JsonPointer.of("/type").readString(bytes));
+        assertEquals(11, JsonPointer.of("/state/messages").readLong(bytes, -1));
+        assertTrue(JsonPointer.of("/cluster/replicas/0/current").readBoolean(bytes, false));
+        assertFalse(JsonPointer.of("/cluster/replicas/1/current").readBoolean(bytes, true));
+        assertEquals("name1", JsonPointer.of("/cluster/replicas/1/name").readString(bytes));
+        assertEquals(full.map.get("config"), JsonPointer.of("/config").extract(bytes));
+        assertEquals(full.map.get("config"), JsonPointer.of("/config").extract(json));
+        assertEquals(full.map.get("config"), JsonPointer.of("/config").extract(json.toCharArray()));
+        assertEquals(full, JsonPointer.of("").extract(bytes));
+
+        // not found
+        assertNull(JsonPointer.of("/nope").extract(bytes));
+        assertNull(JsonPointer.of("/type/x").extract(bytes));
+        assertNull(JsonPointer.of("/cluster/replicas/2").extract(bytes));
+        assertNull(JsonPointer.of("/cluster/replicas/-").extract(bytes));
+        assertNull(JsonPointer.of("/cluster/replicas/01").extract(bytes));
+        assertNull(JsonPointer.of("/cluster/replicas/name").extract(bytes));
+        assertNull(JsonPointer.of("/x").extract(new byte[0]));
+        assertNull(JsonPointer.of("/x").readString((byte[])null));
+        assertEquals(-1, JsonPointer.of("/type").readLong(bytes, -1));
+        assertTrue(JsonPointer.of("/type").readBoolean(bytes, true));
+        assertEquals(-1, JsonPointer.of("/nope").readLong(bytes, -1));
+        assertNull(JsonPointer.of("/state").readString(bytes));
+    }
+
+    @Test
+    public void testKeys() throws JsonParseException {
+        String json = "{\"a/b\":1,\"c~d\":2,\"\":3,\"e\\u0066\":4,\"n\":null,\"d\":5,\"d\":6,\"arr\":[,7,,8,],\"x\":{\"y\":1},}";
+        assertEquals(1, JsonPointer.of("/a~1b").extract(json).i);
+        assertEquals(2, JsonPointer.of("/c~0d").extract(json).i);
+        assertEquals(3, JsonPointer.of("/").extract(json).i);
+        assertEquals(4, JsonPointer.of("/ef").extract(json).i);
+        assertSame(JsonValue.NULL, JsonPointer.of("/n").extract(json));
+        assertEquals(5, JsonPointer.of("/d").extract(json).i);
+        assertEquals(7, JsonPointer.of("/arr/0").extract(json).i);
+        assertEquals(8, JsonPointer.of("/arr/1").extract(json).i);
+        assertNull(JsonPointer.of("/arr/2").extract(json));
+        assertNull(JsonPointer.of("/e").extract(json));
+        assertNull(JsonPointer.of("/x/z").extract(json));
+        assertNull(JsonPointer.of("/zz").extract(json));
+        assertEquals("/a~1b", JsonPointer.of("/a~1b").toString());
+
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.of("a"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.of("/a~"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.of("/a~2"));
+    }
+
+    @Test
+    public void testStopsEarly() throws JsonParseException {
+        // everything after the target is never read, so it does not have to be valid
+        assertEquals("ok", JsonPointer.of("/type").extract("{\"type\":\"ok\", this is not json").string);
+        assertEquals(2, JsonPointer.of("/0/a/1").extract("[{\"a\":[1,2,{{{").i);
+
+        assertThrows(JsonParseException.class, () -> JsonPointer.of("/b").extract("{\"a\":1"));
+        assertThrows(JsonParseException.class, () -> JsonPointer.of("/b").extract("{\"a\" 1}"));
+        assertThrows(JsonParseException.class, () -> JsonPointer.of("/b").extract("{\"a\":1 \"b\":2}"));
+        assertThrows(JsonParseException.class, () -> JsonPointer.of("/b").extract("{\"a\":\"x"));
+        assertThrows(JsonParseException.class, () -> JsonPointer.of("/b").extract("{\"a\\q\":1}"));
+        assertThrows(JsonParseException.class, () -> JsonPointer.of("/3").extract("[1,2"));
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.nats.json.JsonParser.Option.KEEP_NULLS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonProjectionTests {
+
+    @Test
+    public void testProjection() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue full = JsonParser.parse(json);
+        JsonProjection projection = JsonProjection.of("state.messages", "config.name", "config.placement", "cluster.replicas.lag", "created");
+
+        JsonValue v = JsonParser.parse(json, projection);
+        assertEquals(v, JsonParser.parse(json.toCharArray(), projection));
+        assertEquals(v, JsonParser.parse(json.getBytes(StandardCharsets.UTF_8), projection));
+        assertEquals(v, new JsonParser(json).parse(projection));
+
+        assertEquals(4, v.map.size());
+        assertEquals(full.map.get("created"), v.map.get("created"));
+        assertEquals(1, v.map.get("state").map.size());
+        assertEquals(11, JsonValueUtils.readInteger(v.map.get("state"), "messages", 0));
+        assertEquals(2, v.map.get("config").map.size());
+        assertEquals("streamName", JsonValueUtils.readString(v.map.get("config"), "name"));
+        assertEquals(full.map.get("config").map.get("placement"), v.map.get("config").map.get("placement"));
+
+        JsonValue replicas = v.map.get("cluster").map.get("replicas");
+        assertEquals(2, replicas.array.size());
+        assertEquals(1, replicas.array.get(0).map.size());
+        assertEquals(3, replicas.array.get(0).map.get("lag").i);
+        assertEquals(4, replicas.array.get(1).map.get("lag").i);
+
+        // a shorter path keeps the whole value
+        assertEquals(full.map.get("state"), JsonParser.parse(json, JsonProjection.of("state.messages", "state")).map.get("state"));
+        assertEquals(full.map.get("state"), JsonParser.parse(json, JsonProjection.of("state", "state.messages")).map.get("state"));
+
+        // missing keys and paths through primitives
+        assertEquals(0, JsonParser.parse(json, JsonProjection.of("nope", "type.x")).map.size());
+        assertEquals(full, JsonParser.parse(json, JsonProjection.of(full.map.keySet())));
+    }
+
+    @Test
+    public void testTopLevelAndNulls() throws JsonParseException {
+        JsonProjection projection = JsonProjection.of("a");
+        assertEquals("[{\"a\":1},{},{\"a\":3}]",
+            JsonParser.parse("[{\"a\":1,\"b\":[1,{\"x\":\"]}\"}]},{\"b\":\"}\"},{\"a\":3},7,\"s\"]", projection).toJson());
+        assertSame(JsonValue.NULL, JsonParser.parse("", projection));
+        assertSame(JsonValue.NULL, JsonParser.parse("12", projection));
+        assertEquals(0, JsonParser.parse("{\"a\":null}", projection).map.size());
+        assertEquals(1, JsonParser.parse("{\"a\":null}", projection, KEEP_NULLS).map.size());
+
+        // keys are matched by their characters, escaped or not, and a kept key is the projection's own String
+        JsonProjection nested = JsonProjection.of("state.messages", "st");
+        JsonValue v = JsonParser.parse("{\"st\\u0061te\":{\"messages\":5,\"bytes\":9},\"stat\":1,\"st\":2}".getBytes(), nested);
+        assertEquals("{\"messages\":5}", v.map.get("state").toJson());
+        assertEquals(2, v.map.get("st").i);
+        assertEquals(2, v.map.size());
+        assertSame(nested.key(nested.indexOf("st")), v.map.keySet().stream().filter("st"::equals).findFirst().get());
+    }
+
+    @Test
+    public void testErrors() {
+        JsonProjection projection = JsonProjection.of("a");
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"b\":", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"b\":}", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"b\":{\"c\":1}", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"b\":\"abc", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"b\" 1}", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"b\":1 \"a\":2}", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("{\"a\":[1,2}", projection));
+        assertThrows(JsonParseException.class, () -> JsonParser.parse("[{\"a\":1}", projection));
+
+        assertThrows(IllegalArgumentException.class, () -> JsonProjection.of());
+        assertThrows(IllegalArgumentException.class, () -> JsonProjection.of(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> JsonProjection.of(""));
+        assertThrows(IllegalArgumentException.class, () -> JsonProjection.of("a..b"));
+        assertThrows(IllegalArgumentException.class, () -> JsonProjection.of(Arrays.asList("a", "b.")));
+    }
+}
@@ -0,0 +1,218 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.nats.json.JsonParser.Option.KEEP_NULLS;
+import static io.nats.json.JsonToken.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonReaderTests {
+
+    @Test
+    public void testTokens() throws JsonParseException {
+        String json = "{\"s\":\"str\\\"ing\",\"i\":42,\"l\":9223372036854775807,\"d\":1.5,\"t\":true,\"f\":false,\"n\":null,"
+            + "\"a\":[1,\"two\",[],{}],\"o\":{\"x\":-1},}";
+        JsonReader r = new JsonReader(json);
+        assertNull(r.currentToken());
+        assertEquals(START_OBJECT, r.nextToken());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals("s", r.currentName());
+        assertEquals(STRING, r.nextToken());
+        assertEquals("s", r.currentName()); // read while on the FIELD_NAME
+        assertEquals("str\"ing", r.getString());
+        assertEquals("str\"ing", r.getString());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals("i", r.getString());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals(42, r.getInt());
+        assertEquals(42, r.getLong());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals("l", r.currentName()); // not read while on the FIELD_NAME
+        assertEquals("l", r.currentName());
+        assertEquals(Long.MAX_VALUE, r.getLong());
+        assertThrows(IllegalStateException.class, r::getInt);
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals(1.5, r.getDouble());
+        assertEquals(new BigDecimal("1.5"), r.getNumber());
+        assertThrows(IllegalStateException.class, r::getLong);
+        assertThrows(IllegalStateException.class, r::getBoolean);
+        assertNull(r.getString());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(TRUE, r.nextToken());
+        assertTrue(r.getBoolean());
+        assertThrows(IllegalStateException.class, r::getNumber);
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(FALSE, r.nextToken());
+        assertFalse(r.getBoolean());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(NULL, r.nextToken());
+        assertEquals(JsonValue.NULL, r.readValue());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(START_ARRAY, r.nextToken());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals(STRING, r.nextToken());
+        assertEquals(START_ARRAY, r.nextToken());
+        assertEquals(END_ARRAY, r.nextToken());
+        assertEquals(START_OBJECT, r.nextToken());
+        assertEquals(END_OBJECT, r.nextToken());
+        assertEquals(END_ARRAY, r.nextToken());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(START_OBJECT, r.nextToken());
+        assertEquals("o", r.currentName());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals("x", r.currentName());
+        assertEquals(-1, r.getInt());
+        assertEquals(END_OBJECT, r.nextToken());
+        assertEquals(END_OBJECT, r.nextToken()); // dangling comma
+        assertNull(r.nextToken());
+        assertNull(r.nextToken());
+        assertNull(r.currentToken());
+
+        // an escaped name that was not read on the FIELD_NAME, from UTF-8 input
+        r = new JsonReader("{\"k\\u00e9y\":[true]}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(START_OBJECT, r.nextToken());
+        assertNull(r.currentName());
+        assertEquals(FIELD_NAME, r.nextToken());
+        assertEquals(START_ARRAY, r.nextToken());
+        assertEquals("k\u00e9y", r.currentName());
+        assertEquals(TRUE, r.nextToken());
+        assertNull(r.currentName());
+    }
+
+    @Test
+    public void testSkipAndReadValue() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        JsonValue expected = JsonParser.parse(json);
+
+        // find state.messages, skipping everything else
+        JsonReader r = new JsonReader(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(START_OBJECT, r.nextToken());
+        long messages = -1;
+        while (r.nextToken() == FIELD_NAME) {
+            if ("state".equals(r.currentName())) {
+                assertEquals(START_OBJECT, r.nextToken());
+                while (r.nextToken() == FIELD_NAME) {
+                    boolean isMessages = "messages".equals(r.currentName());
+                    r.nextToken();
+                    if (isMessages) {
+                        messages = r.getLong();
+                    }
+                    r.skipChildren();
+                }
+                assertEquals(END_OBJECT, r.currentToken());
+            }
+            else {
+                r.nextToken();
+                r.skipChildren();
+            }
+        }
+        assertEquals(END_OBJECT, r.currentToken());
+        assertNull(r.nextToken());
+        assertEquals(JsonValueUtils.readLong(JsonValueUtils.readValue(expected, "state"), "messages"), messages);
+
+        // readValue of each top level field matches the DOM
+        ByteBuffer bb = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+        r = new JsonReader(bb, KEEP_NULLS);
+        r.nextToken();
+        int fields = 0;
+        while (r.nextToken() == FIELD_NAME) {
+            String name = r.currentName();
+            r.nextToken();
+            assertEquals(JsonParser.parse(json, KEEP_NULLS).map.get(name), r.readValue());
+            fields++;
+        }
+        assertEquals(expected.map.size(), fields);
+        assertEquals(0, bb.position());
+
+        // top level arrays and scalars
+        r = new JsonReader("[1, [2, 3], {\"x\": [4]}, \"five\", 12345678901234567890]".toCharArray());
+        assertEquals(START_ARRAY, r.nextToken());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals(START_ARRAY, r.nextToken());
+        r.skipChildren();
+        assertEquals(END_ARRAY, r.currentToken());
+        assertEquals(START_OBJECT, r.nextToken());
+        assertEquals(JsonParser.parse("{\"x\": [4]}"), r.readValue());
+        assertEquals(END_OBJECT, r.currentToken());
+        assertEquals(STRING, r.nextToken());
+        assertEquals(new JsonValue("five"), r.readValue());
+        assertEquals(NUMBER, r.nextToken());
+        assertEquals(new BigInteger("12345678901234567890"), r.readValue().bi);
+        assertEquals(END_ARRAY, r.nextToken());
+        assertNull(r.nextToken());
+
+        List<JsonToken> tokens = new ArrayList<>();
+        r = new JsonReader("  \"just a string\"  ");
+        for (JsonToken t = r.nextToken(); t != null; t = r.nextToken()) {
+            tokens.add(t);
+        }
+        assertEquals(1, tokens.size());
+        r = new JsonReader(" 42 ");
+        assertEquals(NUMBER, r.nextToken());
+        assertNull(r.nextToken());
+        r = new JsonReader("");
+        assertNull(r.nextToken());
+        assertThrows(IllegalStateException.class, r::readValue);
+        r = new JsonReader((char[])null);
+        assertNull(r.nextToken());
+    }
+
+    @Test
+    public void testErrors() {
+        validateThrows("{", "Text must end with '}'");
+        validateThrows("{\"a\":1", "Text must end with '}'");
+        validateThrows("{{", "Cannot directly nest another Object or Array.");
+        validateThrows("{\"foo\":1 ]", "Expected a ',' or '}'.");
+        validateThrows("{\"foo\" 1", "Expected a ':' after a key.");
+        validateThrows("{foo:1}", "Expected a key.");
+        validateThrows("[\"bad\",", "Unexpected end of data.");
+        validateThrows("[tru]", JsonParseException.INVALID_VALUE);
+        validateThrows("[truex]", JsonParseException.INVALID_VALUE);
+        validateThrows("[}", JsonParseException.INVALID_VALUE);
+        validateThrows("[\"u", "Unterminated string.");
+
+        JsonReader r = new JsonReader("[1,{\"a\":[");
+        assertThrows(JsonParseException.class, () -> {
+            r.nextToken();
+            r.nextToken();
+            r.nextToken();
+            r.skipChildren();
+        });
+    }
+
+    private static void validateThrows(String json, String errorText) {
+        JsonParseException e = assertThrows(JsonParseException.class, () -> {
+            JsonReader r = new JsonReader(json);
+            JsonToken t = r.nextToken();
+            while (t != null) {
+                t = r.nextToken();
+            }
+        });
+        assertTrue(e.getMessage().contains(errorText), e.getMessage());
+    }
+}
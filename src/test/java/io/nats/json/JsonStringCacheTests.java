@@ -0,0 +1,188 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.nats.json.JsonParser.Option.CACHE_KEYS;
+import static io.nats.json.JsonParser.Option.CACHE_VALUES;
+import static io.nats.json.JsonParser.Option.KEEP_NULLS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonStringCacheTests {
+
+    @Test
+    public void testLookups() {
+        JsonStringCache cache = new JsonStringCache(8, 10);
+        assertEquals(8, cache.getCapacity());
+        assertEquals(10, cache.getMaxLength());
+        assertEquals(16, new JsonStringCache(9, 1).getCapacity());
+
+        char[] chars = "xconfigx".toCharArray();
+        String s = cache.get(chars, 1, 7);
+        assertEquals("config", s);
+        assertSame(s, cache.get(chars, 1, 7));
+        assertSame(s, cache.get("config", 0, 6));
+        assertSame(s, cache.get(new StringBuilder("[config]"), 1, 7));
+        assertSame(s, cache.getAscii("config".getBytes(StandardCharsets.US_ASCII), 0, 6));
+        assertEquals("", cache.get(chars, 0, 0));
+
+        // too long to cache
+        char[] tooLong = "01234567890".toCharArray();
+        String long1 = cache.get(tooLong, 0, 11);
+        assertEquals("01234567890", long1);
+        assertNotSame(long1, cache.get(tooLong, 0, 11));
+
+        // bounded, never more entries than the capacity, but every lookup is still correct
+        for (int i = 0; i < 100; i++) {
+            String key = "k" + i;
+            assertEquals(key, cache.get(key, 0, key.length()));
+            assertEquals(key, cache.getAscii(key.getBytes(StandardCharsets.US_ASCII), 0, key.length()));
+        }
+
+        cache.clear();
+        assertNotSame(s, cache.get(chars, 1, 7));
+
+        assertThrows(IllegalArgumentException.class, () -> new JsonStringCache(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new JsonStringCache((1 << 30) + 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new JsonStringCache(8, 0));
+    }
+
+    @Test
+    public void testParserKeys() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue expected = JsonParser.parse(json);
+
+        JsonValue v1 = JsonParser.parse(json, CACHE_KEYS);
+        assertEquals(expected, v1);
+        String config = key(v1.map, "config");
+        assertSame(config, key(JsonParser.parse(json.toCharArray(), CACHE_KEYS).map, "config"));
+        assertSame(config, key(JsonParser.parse(bytes, CACHE_KEYS).map, "config"));
+        assertSame(config, key(JsonParser.parse(ByteBuffer.wrap(bytes), CACHE_KEYS, KEEP_NULLS).map, "config"));
+        JsonReader reader = new JsonReader(json, CACHE_KEYS);
+        reader.nextToken();
+        assertSame(config, key(reader.readValue().map, "config"));
+
+        JsonIncrementalParser incremental = new JsonIncrementalParser(CACHE_KEYS);
+        incremental.feed(bytes);
+        incremental.endOfInput();
+        assertSame(config, key(incremental.poll().map, "config"));
+
+        // keys with escapes are cached from the unescaped form
+        assertSame(config, key(JsonParser.parse("{\"con\\u0066ig\":1}", CACHE_KEYS).map, "config"));
+
+        // without the option keys are not shared
+        assertNotSame(config, key(JsonParser.parse(json).map, "config"));
+        assertNotSame(config, key(JsonParser.parse(bytes).map, "config"));
+    }
+
+    @Test
+    public void testCountsAndRetention() {
+        JsonStringCache cache = new JsonStringCache(2, 10);
+        String limits = cache.get("limits", 0, 6);
+        String memory = cache.get("memory", 0, 6);
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertSame(limits, cache.get("limits".toCharArray(), 0, 6));
+        assertSame(memory, cache.get("memory".toCharArray(), 0, 6));
+        assertEquals(2, cache.getHits());
+
+        // both entries have been hit, so a one-off string does not replace them
+        cache.get("x1", 0, 2);
+        assertSame(limits, cache.get("limits".toCharArray(), 0, 6));
+        assertSame(memory, cache.get("memory".toCharArray(), 0, 6));
+
+        // strings that are too long are not counted
+        cache.get("01234567890".toCharArray(), 0, 11);
+        assertEquals(4, cache.getHits());
+        assertEquals(3, cache.getMisses());
+
+        cache.resetCounts();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testParserValues() throws JsonParseException {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertEquals(JsonParser.parse(json), JsonParser.parse(json, CACHE_VALUES));
+
+        JsonStringCache cache = JsonStringCache.defaultValueCache();
+        String retention = JsonParser.parse(json, CACHE_VALUES).map.get("config").map.get("retention").string;
+        assertEquals("limits", retention);
+        long hits = cache.getHits();
+        assertSame(retention, JsonParser.parse(bytes, CACHE_VALUES).map.get("config").map.get("retention").string);
+        assertSame(retention, JsonParser.parse(json.toCharArray(), CACHE_VALUES, CACHE_KEYS).map.get("config").map.get("retention").string);
+        assertTrue(cache.getHits() > hits);
+
+        JsonReader reader = new JsonReader("[\"limits\"]", CACHE_VALUES);
+        reader.nextToken();
+        reader.nextToken();
+        assertSame(retention, reader.getString());
+
+        JsonIncrementalParser incremental = new JsonIncrementalParser(CACHE_VALUES);
+        incremental.feed("\"limits\"".getBytes(StandardCharsets.UTF_8));
+        assertSame(retention, incremental.poll().string);
+
+        assertNotSame(retention, JsonParser.parse(json).map.get("config").map.get("retention").string);
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        JsonStringCache cache = new JsonStringCache(16, 64);
+        ExecutorService es = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(es.submit(() -> {
+                    for (int x = 0; x < 10_000; x++) {
+                        String key = "key" + (x % 50);
+                        if (!key.equals(cache.get(key.toCharArray(), 0, key.length()))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> f : futures) {
+                assertTrue(f.get());
+            }
+        }
+        finally {
+            es.shutdown();
+        }
+    }
+
+    private static String key(Map<String, JsonValue> map, String key) {
+        for (String k : map.keySet()) {
+            if (k.equals(key)) {
+                return k;
+            }
+        }
+        return null;
+    }
+}
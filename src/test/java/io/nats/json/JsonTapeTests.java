@@ -0,0 +1,114 @@
+// Copyright 2026 The NATS Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.json;
+
+import io.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.nats.json.JsonParser.Option.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class JsonTapeTests {
+
+    @Test
+    public void testLazyEqualsEager() throws Exception {
+        String json = ResourceUtils.resourceAsString("stream-info.json");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue expected = JsonParser.parse(json);
+
+        assertEquals(expected, JsonParser.parse(json, LAZY));
+        assertEquals(expected, JsonParser.parse(json.toCharArray(), LAZY));
+        assertEquals(expected, JsonParser.parse(bytes, LAZY));
+        assertEquals(expected, JsonParser.parse(ByteBuffer.wrap(bytes), LAZY));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        ByteBuffer eager = direct.duplicate();
+        JsonParser.parse(eager);
+        assertEquals(expected, JsonParser.parse(direct, LAZY));
+        assertEquals(eager.position(), direct.position());
+        assertEquals(expected, JsonParser.parse(new ByteArrayInputStream(bytes), LAZY)); // ignored for streams
+        assertEquals(JsonParser.parse(json, KEEP_NULLS), JsonParser.parse(json, LAZY, KEEP_NULLS, CACHE_KEYS, CACHE_VALUES));
+        assertEquals(expected.toJson(), JsonParser.parse(bytes, LAZY).toJson());
+
+        JsonValue lazy = JsonParser.parse(bytes, LAZY);
+        assertEquals(11, JsonValueUtils.readInteger(JsonValueUtils.readValue(lazy, "state"), "messages", -1));
+        assertEquals("streamName", JsonValueUtils.readString(JsonValueUtils.readValue(lazy, "config"), "name"));
+        assertEquals(JsonValueType.ARRAY, JsonValueUtils.readValue(lazy, "sources").type);
+        assertEquals("name1", lazy.map.get("cluster").map.get("replicas").array.get(1).map.get("name").string);
+
+        String[] quirks = {"[,1,,2,]", "{\"a\":1,}", "{\"x\":{\"a\":1,},\"b\":2}", "{\"a\":null,\"b\":[null]}",
+            "{\"a\":1,\"a\":2}", "[]", "{}", "[[],{},\"\",-0,1.50,true,false,null]", "\"s\"", "42", "true"};
+        for (String q : quirks) {
+            assertEquals(JsonParser.parse(q), JsonParser.parse(q, LAZY), q);
+            assertEquals(JsonParser.parse(q, KEEP_NULLS), JsonParser.parse(q, LAZY, KEEP_NULLS), q);
+        }
+        assertSame(JsonValue.NULL, JsonParser.parse("  ", LAZY));
+    }
+
+    @Test
+    public void testLazyValidation() throws JsonParseException {
+        // structure is checked up front
+        for (String bad : new String[]{"{\"a\":1", "{\"a\" 1}", "{\"a\":1 \"b\":2}", "[1,2", "{{}}", "{\"a\":}", "[nul]", "{\"a\":\"x"}) {
+            assertThrows(JsonParseException.class, () -> JsonParser.parse(bad, LAZY), bad);
+        }
+
+        // strings and numbers are checked when their container is first accessed
+        JsonValue v = JsonParser.parse("{\"ok\":1,\"bad\":{\"n\":1x,\"s\":\"\\q\"}}", LAZY);
+        assertEquals(1, v.map.get("ok").i);
+        JsonValue bad = v.map.get("bad");
+        RuntimeException e = assertThrows(RuntimeException.class, () -> bad.map.get("n"));
+        assertTrue(e.getCause() instanceof JsonParseException);
+
+        // read only
+        assertThrows(UnsupportedOperationException.class, () -> v.map.put("x", JsonValue.NULL));
+        JsonValue list = JsonParser.parse("[1,2]", LAZY);
+        assertThrows(UnsupportedOperationException.class, () -> list.array.add(JsonValue.NULL));
+        assertEquals(2, list.array.size());
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        ArrayBuilder ab = ArrayBuilder.instance();
+        for (int i = 0; i < 200; i++) {
+            ab.add(MapBuilder.instance().put("i", i).put("s", "s" + i).put("a", ArrayBuilder.instance().add(i).add("x")));
+        }
+        String json = ab.toJson();
+        JsonValue expected = JsonParser.parse(json);
+        JsonValue lazy = JsonParser.parse(json, LAZY);
+
+        ExecutorService es = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(es.submit(() -> expected.equals(lazy)));
+            }
+            for (Future<Boolean> f : futures) {
+                assertTrue(f.get());
+            }
+        }
+        finally {
+            es.shutdown();
+        }
+    }
+}
@@ -14,10 +14,12 @@
 
 package io.nats.json;
 
+import io.ResourceUtils;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class JsonUnicodeParsingTest {
 
@@ -183,4 +185,47 @@ class JsonUnicodeParsingTest {
                 "Failed for test case: " + testCases[i]);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseUtf8Bytes() throws JsonParseException {
+        // 1, 2, 3 and 4 byte sequences, raw and escaped
+        String s = "a\u00e9\u65e5\uD83D\uDE00z";
+        String json = "{\"raw\":\"" + s + "\",\"esc\":\"a\\u00e9\\u65e5\\uD83D\\uDE00z\",\"\u65e5\":[\"\u00e9\",1]}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonValue fromBytes = JsonParser.parse(bytes);
+        assertEquals(JsonParser.parse(json), fromBytes);
+        assertNotNull(fromBytes.map);
+        assertEquals(s, fromBytes.map.get("raw").string);
+        assertEquals(s, fromBytes.map.get("esc").string);
+        assertNotNull(fromBytes.map.get("\u65e5").array);
+        assertEquals(new JsonParser(bytes).parse(), fromBytes);
+
+        String streamInfo = ResourceUtils.resourceAsString("stream-info.json");
+        assertEquals(JsonParser.parse(streamInfo), JsonParser.parse(streamInfo.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(JsonValue.NULL, JsonParser.parse((byte[])null));
+        assertEquals(JsonValue.NULL, JsonParser.parse(new byte[0]));
+        assertEquals(JsonValue.NULL, JsonParser.parse(new byte[]{' ', '\n'}));
+        assertEquals(42, JsonParser.parse("xxx42".getBytes(), 3).i);
+    }
+
+    @Test
+    void testParseUtf8BytesInvalid() {
+        byte[][] invalids = {
+            {'"', (byte)0x80, '"'},                         // lone continuation byte
+            {'"', (byte)0xC0, (byte)0x80, '"'},             // overlong 2 byte
+            {'"', (byte)0xE0, (byte)0x80, (byte)0x80, '"'}, // overlong 3 byte
+            {'"', (byte)0xED, (byte)0xA0, (byte)0x80, '"'}, // encoded surrogate
+            {'"', (byte)0xF4, (byte)0x90, (byte)0x80, (byte)0x80, '"'}, // above U+10FFFF
+            {'"', (byte)0xF8, '"'},                         // invalid lead byte
+            {'"', (byte)0xC3},                              // truncated
+            {'"', (byte)0xE6, (byte)0x97, '"'},             // truncated before quote
+        };
+        for (byte[] invalid : invalids) {
+            JsonParseException e = assertThrows(JsonParseException.class, () -> JsonParser.parse(invalid));
+            assertEquals("Invalid UTF-8 sequence.", e.getMessage());
+        }
+        // non-ASCII outside a string is never a valid token
+        assertThrows(JsonParseException.class, () -> JsonParser.parse(new byte[]{'[', '1', (byte)0xC3, (byte)0xA9, ']'}));
+    }
+}